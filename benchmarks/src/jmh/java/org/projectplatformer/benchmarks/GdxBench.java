@@ -0,0 +1,24 @@
+package org.projectplatformer.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import org.projectplatformer.headless.NoopGL;
+
+/**
+ * Мінімальне оточення libGDX для бенчмарків: headless Gdx.app/Gdx.files
+ * і GL-заглушка, щоб класи гри могли створювати текстури.
+ */
+final class GdxBench {
+    private GdxBench() {}
+
+    static synchronized void init() {
+        if (Gdx.app == null) {
+            HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+            config.updatesPerSecond = -1;
+            new HeadlessApplication(new ApplicationAdapter() {}, config);
+        }
+        NoopGL.install();
+    }
+}
@@ -0,0 +1,56 @@
+package org.projectplatformer.benchmarks;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.projectplatformer.EnemiesAnimation.EnemyAnimationRegistry;
+import org.projectplatformer.levellogic.TiledLevel;
+import org.projectplatformer.objectslogic.World;
+
+/**
+ * TiledLevel.createLevel на кожній карті гри: спавн, злиття тайлів землі по чанках,
+ * колізійна карта, таблиці монет і ворогів. Сама TMX завантажується один раз;
+ * живі об'єкти чанків сюди не входять — їх створює Simulation біля гравця.
+ */
+@State(Scope.Thread)
+public class LevelLoadBenchmark {
+    @Param({"Level1", "Level2", "Level3", "FinalLevel", "Shop"})
+    public String map;
+
+    private AssetManager assets;
+    private String       path;
+
+    @Setup
+    public void setup() {
+        GdxBench.init();
+        path   = "Levels/Maps/" + map + ".tmx";
+        assets = new AssetManager();
+        assets.load("Levels/Images/default.png", Texture.class);
+        assets.load("Levels/Images/coin.png",    Texture.class);
+        EnemyAnimationRegistry.init(assets);
+        assets.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        assets.load(path, TiledMap.class);
+        assets.finishLoading();
+    }
+
+    @Benchmark
+    public World createLevel() {
+        World world = new World();
+        new TiledLevel(assets, null, path).createLevel(world);
+        return world;
+    }
+
+    @TearDown
+    public void tearDown() {
+        EnemyAnimationRegistry.dispose();
+        assets.dispose();
+    }
+}
@@ -0,0 +1,77 @@
+package org.projectplatformer.benchmarks;
+
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.projectplatformer.levellogic.TiledLevel.CollisionMode;
+import org.projectplatformer.physics.CollisionGrid;
+import org.projectplatformer.physics.CollisionMap;
+import org.projectplatformer.physics.PhysicsComponent;
+import org.projectplatformer.physics.TileCollisionMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Крок фізики тіла серед N платформ на полі фіксованого розміру:
+ * що більше платформ, то щільніше поле і більше сусідів у запитах.
+ * Ті самі платформи — і як прямокутники з сіткою, і як бітова карта тайлів (типово в грі).
+ */
+@State(Scope.Thread)
+public class PhysicsBenchmark {
+    private static final float FIELD_W = 4096f, FIELD_H = 1024f, TILE = 32f;
+    private static final float STEP = 1f / 120f;
+
+    @Param({"16", "256", "4096"})
+    public int platformCount;
+
+    @Param({"TILE_BITMAP", "RECTANGLES"})
+    public CollisionMode collisionMode;
+
+    private CollisionMap     platforms;
+    private PhysicsComponent body;
+    private final Rectangle  start = new Rectangle(FIELD_W / 2f, 96f, 32f, 52f);
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        List<Rectangle> solids = new ArrayList<>();
+        solids.add(new Rectangle(0f, 0f, FIELD_W, TILE)); // підлога
+        for (int i = 1; i < platformCount; i++) {
+            float x = (float) Math.floor(rnd.nextFloat() * FIELD_W / TILE) * TILE;
+            float y = TILE + (float) Math.floor(rnd.nextFloat() * (FIELD_H - TILE) / TILE) * TILE;
+            solids.add(new Rectangle(x, y, TILE, TILE));
+        }
+        if (collisionMode == CollisionMode.TILE_BITMAP) {
+            boolean[][] solid = new boolean[(int) (FIELD_W / TILE)][(int) (FIELD_H / TILE)];
+            for (Rectangle r : solids) {
+                for (int x = (int) (r.x / TILE); x < (int) ((r.x + r.width) / TILE); x++) {
+                    for (int y = (int) (r.y / TILE); y < (int) ((r.y + r.height) / TILE); y++) solid[x][y] = true;
+                }
+            }
+            platforms = new TileCollisionMap(solid, TILE, TILE);
+        } else {
+            platforms = new CollisionGrid(solids, TILE, FIELD_W, FIELD_H);
+        }
+        // Параметри фізики гравця
+        body = new PhysicsComponent(new Rectangle(start), -1000f, -1000f, 0.9f, 16f, 200f);
+    }
+
+    /** Тіло біжить праворуч: step-up і крок фізики, як у Player.update */
+    @Benchmark
+    public Rectangle updateAndStepUp() {
+        Rectangle b = body.getBounds();
+        if (b.x > FIELD_W - 64f || b.y < 0f) {
+            b.setPosition(start.x, start.y);
+            body.setVelocityY(0f);
+        }
+        body.setVelocityX(100f);
+        body.tryStepUp(platforms, true);
+        body.update(STEP, platforms);
+        return b;
+    }
+}
@@ -0,0 +1,44 @@
+package org.projectplatformer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.projectplatformer.objectslogic.Platform;
+import org.projectplatformer.objectslogic.World;
+
+import java.util.List;
+
+/** Індекс платформ світу: звичайний кадр (кеш) і кадр після зміни набору платформ */
+@State(Scope.Thread)
+public class PlatformIndexBenchmark {
+    @Param({"64", "1024"})
+    public int platformCount;
+
+    private World    world;
+    private Platform extra;
+
+    @Setup
+    public void setup() {
+        world = new World();
+        for (int i = 0; i < platformCount; i++) {
+            world.addObject(new Platform(i * 32f, (i % 8) * 32f, 32f, 32f, null));
+        }
+        extra = new Platform(-64f, 0f, 32f, 32f, null);
+        world.getPlatformBounds();
+    }
+
+    @Benchmark
+    public List<?> cached() {
+        return world.getPlatformBounds();
+    }
+
+    /** Додали й прибрали платформу — наступний виклик перебудовує список */
+    @Benchmark
+    public List<?> afterChange() {
+        world.addObject(extra);
+        world.removeObject(extra);
+        return world.getPlatformBounds();
+    }
+}
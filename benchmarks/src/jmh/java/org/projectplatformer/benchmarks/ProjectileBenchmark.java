@@ -0,0 +1,64 @@
+package org.projectplatformer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.objectslogic.Platform;
+import org.projectplatformer.physics.CollisionGrid;
+import org.projectplatformer.weapon.Projectile;
+import org.projectplatformer.weapon.ProjectileSystem;
+
+/**
+ * Крок M стріл лука. Стріли живуть у {@link ProjectileSystem} світу
+ * (BowWeapon.update лише рахує кулдаун), тож міряємо саме його.
+ * Стріли, що впали на підлогу, одразу випускаються знову — у польоті завжди M.
+ */
+@State(Scope.Thread)
+public class ProjectileBenchmark {
+    private static final float STEP = 1f / 120f;
+    private static final float WIDTH = 8192f;
+
+    // Параметри стандартного лука
+    private static final float SPEED = 500f, ANGLE_DEG = 40f, GRAVITY = 800f;
+    private static final float ARROW_W = 20f, ARROW_H = 6f, RANGE = 800f;
+    private static final int   DAMAGE = 25;
+
+    @Param({"1", "32", "512"})
+    public int arrowCount;
+
+    private World            world;
+    private ProjectileSystem projectiles;
+    private int              launched = 0;
+
+    @Setup
+    public void setup() {
+        world = new World();
+        world.addObject(new Platform(0f, 0f, WIDTH, 32f, null));
+        world.setCollisionMap(new CollisionGrid(world.getPlatformBounds(), 32f, WIDTH, 1024f));
+        world.setWorldWidth(WIDTH);
+        projectiles = world.getProjectiles();
+        topUp();
+    }
+
+    @Benchmark
+    public int update() {
+        projectiles.update(STEP, world.getCollisionMap(), null, null);
+        topUp();
+        return projectiles.size();
+    }
+
+    private void topUp() {
+        double ang = Math.toRadians(ANGLE_DEG);
+        float vx = (float) (Math.cos(ang) * SPEED);
+        float vy = (float) (Math.sin(ang) * SPEED);
+        while (projectiles.size() < arrowCount) {
+            // Розносимо точки пострілу, щоб стріли не летіли одна в одній
+            float x = 64f + (launched++ % 64) * 96f;
+            projectiles.spawn(Projectile.Faction.PLAYER, x, 64f, ARROW_W, ARROW_H,
+                vx, vy, GRAVITY, DAMAGE, RANGE, null, true);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.projectplatformer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.projectplatformer.enemy.Goblin;
+import org.projectplatformer.enemy.Skeleton;
+import org.projectplatformer.enemy.Spider;
+import org.projectplatformer.objectslogic.Platform;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.physics.CollisionGrid;
+import org.projectplatformer.player.Player;
+import org.projectplatformer.player.PlayerInput;
+
+/**
+ * Крок World.update з N ворогами на довгій підлозі (усі активні).
+ * Гравець стоїть на краю, тож вороги здебільшого патрулюють.
+ */
+@State(Scope.Thread)
+public class WorldUpdateBenchmark {
+    private static final float STEP = 1f / 120f;
+    private static final float SPACING = 96f;
+
+    @Param({"10", "100", "1000"})
+    public int enemyCount;
+
+    private World  world;
+    private Player player;
+
+    @Setup
+    public void setup() {
+        GdxBench.init();
+        float width = Math.max(1024f, enemyCount * SPACING + 512f);
+        world = new World();
+        world.addObject(new Platform(0f, 0f, width, 32f, null));
+        world.setCollisionMap(new CollisionGrid(world.getPlatformBounds(), 32f, width, 1024f));
+        world.setWorldWidth(width);
+
+        for (int i = 0; i < enemyCount; i++) {
+            float x = 512f + i * SPACING;
+            switch (i % 3) {
+                case 0:  world.addEnemy(new Goblin(x, 32f));   break;
+                case 1:  world.addEnemy(new Skeleton(x, 32f)); break;
+                default: world.addEnemy(new Spider(x, 32f));   break;
+            }
+        }
+        player = new Player(32f, 32f, new PlayerInput());
+        player.setProjectileSystem(world.getProjectiles());
+    }
+
+    @Benchmark
+    public World update() {
+        world.update(STEP, player);
+        return world;
+    }
+}
@@ -0,0 +1,124 @@
+package org.projectplatformer.EnemiesAnimation;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import org.projectplatformer.animations.GameAtlas;
+import org.projectplatformer.assets.AssetPack;
+import org.projectplatformer.enemy.Witch;
+import org.projectplatformer.profiling.GameEvents;
+import org.projectplatformer.weapon.BowWeapon;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Спільні (flyweight) анімації ворогів.
+ * Кадри кожного типу завантажуються один раз через AssetManager, а готові
+ * Animation діляться між усіма ворогами цього типу. Менеджер анімації
+ * конкретного ворога тримає лише свій stateTime і поточний стан,
+ * тож спавн і смерть ворога не створюють і не звільняють текстур.
+ *
+ * Якщо зібрано {@link GameAtlas}, кадри беруться з нього за ім'ям
+ * (напр. "Enemies/Goblin/Goblin3"), і окремі PNG не завантажуються.
+ *
+ * Тут же живуть поодинокі спрайти снарядів ({@link #sprite}): стріла
+ * й фаєрбол завантажуються разом з кадрами ворогів і звільняються в {@link #dispose}.
+ */
+public final class EnemyAnimationRegistry {
+    private static AssetManager assets;
+    private static final Map<String, Animation<TextureRegion>> animations = new HashMap<>();
+    private static final Map<String, TextureRegion>            sprites    = new HashMap<>();
+
+    // Текстури, створені без AssetManager (запасний шлях) — звільняємо самі
+    private static final Map<String, Texture> ownTextures = new HashMap<>();
+
+    private EnemyAnimationRegistry() {}
+
+    /** Підключити AssetManager і поставити в чергу кадри всіх ворогів */
+    public static void init(AssetManager am) {
+        assets = am;
+        if (GameAtlas.get() != null) return; // кадри вже в атласі
+        queue(am, GoblinAnimationManager.FRAME_PREFIX,   GoblinAnimationManager.FRAME_COUNT);
+        queue(am, SkeletonAnimationManager.FRAME_PREFIX, SkeletonAnimationManager.FRAME_COUNT);
+        queue(am, SpiderAnimationManager.FRAME_PREFIX,   SpiderAnimationManager.FRAME_COUNT);
+        am.load(BowWeapon.ARROW_SPRITE + ".png", Texture.class);
+        am.load(Witch.FIREBALL_SPRITE + ".png", Texture.class);
+    }
+
+    /** Кадри prefix1.png .. prefix{count}.png у чергу завантаження */
+    public static void queue(AssetManager am, String prefix, int count) {
+        for (int i = 1; i <= count; i++) {
+            am.load(prefix + i + ".png", Texture.class);
+        }
+    }
+
+    /**
+     * Спільна анімація з кадрів prefix{from+1}.png .. prefix{to}.png.
+     * Створюється при першому запиті, далі повертається той самий об'єкт.
+     */
+    public static Animation<TextureRegion> get(String prefix, int from, int to,
+                                               float frameDuration, Animation.PlayMode playMode) {
+        String key = prefix + from + "-" + to + ":" + frameDuration + ":" + playMode;
+        Animation<TextureRegion> anim = animations.get(key);
+        if (anim == null) {
+            Object span = GameEvents.begin(GameEvents.Type.ANIMATION_LOAD);
+            Array<TextureRegion> regions = new Array<>();
+            boolean fromAtlas = true; // false — хоч один кадр узято з окремого PNG
+            for (int i = from; i < to; i++) {
+                String name = prefix + (i + 1);
+                TextureRegion packed = GameAtlas.findRegion(name);
+                if (packed == null) fromAtlas = false;
+                regions.add(packed != null ? packed : new TextureRegion(texture(name + ".png")));
+            }
+            anim = new Animation<>(frameDuration, regions, playMode);
+            animations.put(key, anim);
+            GameEvents.animationLoad(span, key, regions.size, fromAtlas);
+        }
+        return anim;
+    }
+
+    /** Поодинокий спрайт за ім'ям (шлях без .png): з атласу або з окремого PNG */
+    public static TextureRegion sprite(String name) {
+        TextureRegion region = sprites.get(name);
+        if (region == null) {
+            TextureRegion packed = GameAtlas.findRegion(name);
+            region = packed != null ? packed : new TextureRegion(texture(name + ".png"));
+            sprites.put(name, region);
+        }
+        return region;
+    }
+
+    private static Texture texture(String path) {
+        if (assets != null) {
+            if (!assets.isLoaded(path, Texture.class)) {
+                // Кадр не стояв у черзі — довантажуємо синхронно
+                assets.load(path, Texture.class);
+                assets.finishLoadingAsset(path);
+            }
+            return assets.get(path, Texture.class);
+        }
+        Texture tex = ownTextures.get(path);
+        if (tex == null) {
+            FileHandle file = AssetPack.internal(path);
+            if (!file.exists()) {
+                throw new RuntimeException("❌ Missing file: " + path);
+            }
+            tex = new Texture(file);
+            ownTextures.put(path, tex);
+        }
+        return tex;
+    }
+
+    /** Скинути кеш; текстури з AssetManager звільняє сам AssetManager */
+    public static void dispose() {
+        animations.clear();
+        sprites.clear();
+        for (Texture tex : ownTextures.values()) tex.dispose();
+        ownTextures.clear();
+        assets = null;
+    }
+}
@@ -1,12 +1,13 @@
 package org.projectplatformer.EnemiesAnimation;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Disposable;
-import com.badlogic.gdx.utils.Array;
 
-public class GoblinAnimationManager implements Disposable {
+/** Стан анімації одного гобліна; самі анімації спільні ({@link EnemyAnimationRegistry}) */
+public class GoblinAnimationManager {
+    public static final String FRAME_PREFIX = "Enemies/Goblin/Goblin";
+    public static final int    FRAME_COUNT  = 11;
+
     public enum State {
         WALK,
         ATTACK,
@@ -22,29 +23,13 @@ public class GoblinAnimationManager implements Disposable {
 
     private TextureRegion currentFrame;
 
-    private final Texture[] frames;
-
     public GoblinAnimationManager() {
         stateTime = 0f;
         currentState = State.WALK;
 
-        frames = new Texture[11];
-        for (int i = 0; i < 11; i++) {
-            frames[i] = new Texture("Enemies/Goblin/Goblin" + (i + 1) + ".png");
-        }
-        walkAnim   = createAnimation(0, 5, 0.15f, Animation.PlayMode.LOOP);   // Goblin1-5
-        attackAnim = createAnimation(5, 9, 0.12f, Animation.PlayMode.NORMAL); // Goblin6-9 (одноразова!)
-        deathAnim  = createAnimation(9, 11, 0.25f, Animation.PlayMode.NORMAL);// Goblin10-11 (одноразова!)
-    }
-
-    private Animation<TextureRegion> createAnimation(int from, int to, float frameDuration, Animation.PlayMode playMode) {
-        Array<TextureRegion> regions = new Array<>();
-        for (int i = from; i < to; i++) {
-            regions.add(new TextureRegion(frames[i]));
-        }
-        Animation<TextureRegion> anim = new Animation<>(frameDuration, regions);
-        anim.setPlayMode(playMode);
-        return anim;
+        walkAnim   = EnemyAnimationRegistry.get(FRAME_PREFIX, 0, 5, 0.15f, Animation.PlayMode.LOOP);   // Goblin1-5
+        attackAnim = EnemyAnimationRegistry.get(FRAME_PREFIX, 5, 9, 0.12f, Animation.PlayMode.NORMAL); // Goblin6-9 (одноразова!)
+        deathAnim  = EnemyAnimationRegistry.get(FRAME_PREFIX, 9, 11, 0.25f, Animation.PlayMode.NORMAL);// Goblin10-11 (одноразова!)
     }
 
     /**
@@ -100,11 +85,4 @@ public class GoblinAnimationManager implements Disposable {
     public void resetDeathAnim() {
         stateTime = 0f;
     }
-
-    @Override
-    public void dispose() {
-        for (Texture tex : frames) {
-            tex.dispose();
-        }
-    }
 }
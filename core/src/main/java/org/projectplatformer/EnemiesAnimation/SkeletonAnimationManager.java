@@ -1,13 +1,13 @@
 package org.projectplatformer.EnemiesAnimation;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Disposable;
 
-public class SkeletonAnimationManager implements Disposable {
+/** Стан анімації одного скелета; самі анімації спільні ({@link EnemyAnimationRegistry}) */
+public class SkeletonAnimationManager {
+    public static final String FRAME_PREFIX = "Enemies/Skeleton/Skeleton";
+    public static final int    FRAME_COUNT  = 16;
+
     public enum State {
         WALK,
         ATTACK,
@@ -22,35 +22,14 @@ public class SkeletonAnimationManager implements Disposable {
     private State currentState;
     private TextureRegion currentFrame;
 
-    private final Texture[] frames;
-
     public SkeletonAnimationManager() {
         stateTime = 0f;
         currentState = State.WALK;
 
-        // Завантажуємо 16 кадрів з папки Enemies/Skeleton/
-        frames = new Texture[16];
-        for (int i = 0; i < 16; i++) {
-            String path = "Enemies/Skeleton/Skeleton" + (i + 1) + ".png";
-            if (!Gdx.files.internal(path).exists()) {
-                throw new RuntimeException("❌ Missing file: " + path);
-            }
-            frames[i] = new Texture(path);
-        }
-
-        walkAnim   = createAnimation(0, 6, 0.15f, Animation.PlayMode.LOOP);    // Skeleton1-6.png
-        deathAnim  = createAnimation(6, 13, 0.25f, Animation.PlayMode.NORMAL);  // Skeleton7-13.png
-        attackAnim = createAnimation(13, 16, 0.12f, Animation.PlayMode.NORMAL); // Skeleton14-16.png
-    }
-
-    private Animation<TextureRegion> createAnimation(int from, int to, float frameDuration, Animation.PlayMode playMode) {
-        Array<TextureRegion> regions = new Array<>();
-        for (int i = from; i < to; i++) {
-            regions.add(new TextureRegion(frames[i]));
-        }
-        Animation<TextureRegion> anim = new Animation<>(frameDuration, regions);
-        anim.setPlayMode(playMode);
-        return anim;
+        // 16 кадрів з папки Enemies/Skeleton/ (спільні для всіх скелетів)
+        walkAnim   = EnemyAnimationRegistry.get(FRAME_PREFIX, 0, 6, 0.15f, Animation.PlayMode.LOOP);    // Skeleton1-6.png
+        deathAnim  = EnemyAnimationRegistry.get(FRAME_PREFIX, 6, 13, 0.25f, Animation.PlayMode.NORMAL);  // Skeleton7-13.png
+        attackAnim = EnemyAnimationRegistry.get(FRAME_PREFIX, 13, 16, 0.12f, Animation.PlayMode.NORMAL); // Skeleton14-16.png
     }
 
     public void update(float delta, State newState, boolean facingRight) {
@@ -92,11 +71,4 @@ public class SkeletonAnimationManager implements Disposable {
     public boolean isDeathAnimationFinished() {
         return deathAnim.isAnimationFinished(stateTime);
     }
-
-    @Override
-    public void dispose() {
-        for (Texture tex : frames) {
-            tex.dispose();
-        }
-    }
 }
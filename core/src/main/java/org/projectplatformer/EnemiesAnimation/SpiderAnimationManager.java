@@ -1,12 +1,13 @@
 package org.projectplatformer.EnemiesAnimation;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Disposable;
 
-public class SpiderAnimationManager implements Disposable {
+/** Стан анімації одного павука; самі анімації спільні ({@link EnemyAnimationRegistry}) */
+public class SpiderAnimationManager {
+    public static final String FRAME_PREFIX = "Enemies/Spider/Spider";
+    public static final int    FRAME_COUNT  = 6; // 3 walk + 3 attack
+
     public enum State {
         WALK,
         ATTACK
@@ -19,28 +20,12 @@ public class SpiderAnimationManager implements Disposable {
     private State currentState;
     private TextureRegion currentFrame;
 
-    private final Texture[] frames;
-
     public SpiderAnimationManager() {
         stateTime = 0f;
         currentState = State.WALK;
 
-        frames = new Texture[6]; // 3 walk + 3 attack
-
-        for (int i = 0; i < frames.length; i++) {
-            frames[i] = new Texture("Enemies/Spider/Spider" + (i + 1) + ".png");
-        }
-
-        walkAnim   = createAnimation(0, 3, 0.15f);   // Spider1-3
-        attackAnim = createAnimation(3, 6, 0.12f);   // Spider4-6
-    }
-
-    private Animation<TextureRegion> createAnimation(int from, int to, float duration) {
-        Array<TextureRegion> regions = new Array<>();
-        for (int i = from; i < to; i++) {
-            regions.add(new TextureRegion(frames[i]));
-        }
-        return new Animation<>(duration, regions, Animation.PlayMode.LOOP);
+        walkAnim   = EnemyAnimationRegistry.get(FRAME_PREFIX, 0, 3, 0.15f, Animation.PlayMode.LOOP);   // Spider1-3
+        attackAnim = EnemyAnimationRegistry.get(FRAME_PREFIX, 3, 6, 0.12f, Animation.PlayMode.LOOP);   // Spider4-6
     }
 
     public void update(float delta, State newState, boolean facingRight) {
@@ -73,11 +58,4 @@ public class SpiderAnimationManager implements Disposable {
     public TextureRegion getCurrentFrame() {
         return currentFrame;
     }
-
-    @Override
-    public void dispose() {
-        for (Texture t : frames) {
-            t.dispose();
-        }
-    }
 }
@@ -4,17 +4,16 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.ExtendViewport;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -24,29 +23,34 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import org.projectplatformer.levellogic.LevelStreamer;
 import org.projectplatformer.levellogic.TiledLevel;
-import org.projectplatformer.objectslogic.GameObject;
 import org.projectplatformer.objectslogic.Item;
 import org.projectplatformer.objectslogic.World;
 import org.projectplatformer.objectslogic.Platform;
+import org.projectplatformer.player.InputRecorder;
+import org.projectplatformer.player.InputReplay;
 import org.projectplatformer.player.Player;
+import org.projectplatformer.player.PlayerInput;
+import org.projectplatformer.profiling.FrameProfiler;
 import org.projectplatformer.enemy.BaseEnemy;
-import org.projectplatformer.objectslogic.Coin;
+import org.projectplatformer.EnemiesAnimation.EnemyAnimationRegistry;
+import org.projectplatformer.animations.GameAtlas;
+import org.projectplatformer.assets.AssetPack;
+import org.projectplatformer.assets.PackFileHandleResolver;
 
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
+import java.io.File;
 
 public class Main extends ApplicationAdapter {
     private static final float WORLD_WIDTH  = 800f;
     private static final float WORLD_HEIGHT = 480f;
 
     private static final String IMAGES_PATH = "Levels/Images/";
-    private static final String MAPS_PATH   = "Levels/Maps/";
-    private static final String GOBLIN_PATH = "Enemies/Goblin/";
-    private static final String SPIDER_PATH = "Enemies/Spider/";
-    private final List<String> levelPaths = Arrays.asList(MAPS_PATH + "Level1.tmx");
-    private int currentLevelIndex = 0;
+
+    // Порядок рівнів і фонове завантаження наступної карти
+    private LevelStreamer levels;
+    private String        currentLevel;
+    private String        pendingLevel; // перемкнемося, щойно карта довантажиться
 
     private SpriteBatch    batch;
     private ShapeRenderer  shapeRenderer;
@@ -61,8 +65,28 @@ public class Main extends ApplicationAdapter {
     private Player         player;
     private TiledLevel     tiledLevel;
 
-    private float fallTimer = 0f;
-    private static final float FALL_DEATH_DELAY = 0.5f;
+    private Simulation     simulation;
+
+    // Фіксований крок симуляції: фізика не залежить від FPS,
+    // а рендер інтерполює позиції між двома останніми кроками
+    private static final float SIM_STEP       = Simulation.STEP;
+    private static final float MAX_FRAME_TIME = 0.25f; // після фрізу не «доганяємо» більше
+    private static final int   MAX_STEPS      = 8;     // і не більше стількох кроків за кадр
+    private float accumulator = 0f;
+
+    // Видима область камери (світові координати) — для відсікання при рендері
+    private final Rectangle cameraView = new Rectangle();
+    private final PlayerInput input = new PlayerInput();
+
+    // Запис/повтор вводу: -Dreplay.record=файл або -Dreplay.play=файл,
+    // зерно світу: -Dsim.seed=N (при повторі береться з запису)
+    private long          seed;
+    private InputRecorder recorder;
+    private FileHandle    recordFile;
+    private InputReplay   replay;
+
+    // Профайлер кадру: F3 — показати/сховати оверлей
+    private final FrameProfiler profiler = new FrameProfiler();
 
     // UI
     private Stage          uiStage;
@@ -78,34 +102,51 @@ public class Main extends ApplicationAdapter {
         gameViewport  = new ExtendViewport(WORLD_WIDTH, WORLD_HEIGHT, camera);
 
         font         = new BitmapFont();
-        assetManager = new AssetManager();
+        // Ресурси з відображеного в пам'ять паку; без нього — окремі файли
+        assetManager = new AssetManager(new PackFileHandleResolver());
 
         // Завантажуємо текстури
         assetManager.load(IMAGES_PATH + "default.png", Texture.class);
         assetManager.load(IMAGES_PATH + "coin.png",    Texture.class);
-        assetManager.load(GOBLIN_PATH + "Goblin1.png",  Texture.class);
-        assetManager.load(SPIDER_PATH + "Spider1.png",  Texture.class);
-
-        // Завантажуємо TMX-карти
-        assetManager.setLoader(TiledMap.class,
-            new TmxMapLoader(new InternalFileHandleResolver()));
-        for (String path : levelPaths) {
-            assetManager.load(path, TiledMap.class);
-        }
+
+        // Кадри ворогів — один раз на всю гру, спільні для всіх екземплярів
+        EnemyAnimationRegistry.init(assetManager);
+
+        // Перша карта — разом з рештою ресурсів, наступні стример довантажує у фоні
+        levels       = new LevelStreamer(assetManager);
+        currentLevel = levels.getFirst();
+        levels.preload(currentLevel);
 
         setupUI();
+        setupReplay();
+    }
+
+    private void setupReplay() {
+        seed = Long.getLong("sim.seed", 0L);
+        String play = System.getProperty("replay.play");
+        if (play != null) {
+            replay = InputReplay.load(Gdx.files.absolute(new File(play).getAbsolutePath()));
+            seed   = replay.getSeed();
+            Gdx.app.log("Replay", "playing " + play);
+        }
+        String record = System.getProperty("replay.record");
+        if (record != null) {
+            recordFile = Gdx.files.absolute(new File(record).getAbsolutePath());
+            recorder   = new InputRecorder(seed);
+            Gdx.app.log("Replay", "recording to " + record);
+        }
     }
 
     private void setupUI() {
         uiStage = new Stage(new FitViewport(WORLD_WIDTH, WORLD_HEIGHT));
-        skin    = new Skin(Gdx.files.internal("uiskin.json"));
+        skin    = new Skin(AssetPack.internal("uiskin.json"));
 
         deathLabel = new Label("You are dead", skin);
         respawnButton = new TextButton("Respawn", skin);
         respawnButton.addListener(new ChangeListener() {
             @Override
             public void changed(ChangeListener.ChangeEvent event, com.badlogic.gdx.scenes.scene2d.Actor actor) {
-                if (player != null && !player.isAlive()) {
+                if (player != null && !player.isAlive() && replay == null) {
                     restartLevel();
                     Gdx.input.setInputProcessor(null);
                 }
@@ -122,22 +163,42 @@ public class Main extends ApplicationAdapter {
 
     private void finishLoading() {
         assetManager.finishLoading();
-        loadLevel(currentLevelIndex);
+        if (replay == null || !loadReplayLevels()) loadLevel(currentLevel);
         loading = false;
     }
 
-    private void loadLevel(int idx) {
-        world = new World();
-        String mapPath = levelPaths.get(idx);
+    /** Перейти на рівень: одразу, якщо карта вже готова, інакше — коли стример її довантажить */
+    private void requestLevel(String mapPath) {
+        levels.preload(mapPath);
+        pendingLevel = mapPath;
+    }
+
+    private void loadLevel(String mapPath) {
+        pendingLevel = null;
+        if (world != null) world.getProjectiles().clear(); // снаряди назад у пул
+        if (tiledLevel != null) tiledLevel.dispose();      // рендер старої карти; саму карту відпускає стример
+        levels.activate(mapPath);
+        currentLevel = mapPath;
+        world = new World(seed);
         tiledLevel = new TiledLevel(assetManager, batch, mapPath);
         tiledLevel.createLevel(world);
 
-        player = new Player(tiledLevel.getStartX(), tiledLevel.getStartY());
+        // Гравець один на всю гру: його анімації вантажаться лише раз
+        if (player == null) player = new Player(tiledLevel.getStartX(), tiledLevel.getStartY(), input);
+        else player.reset(tiledLevel.getStartX(), tiledLevel.getStartY());
         player.setWorldBounds(
             tiledLevel.getMapPixelWidth(),
             tiledLevel.getMapPixelHeight()
         );
-
+        player.setProjectileSystem(world.getProjectiles());
+        world.setWorldWidth(tiledLevel.getMapPixelWidth());
+        simulation = new Simulation(world, player,
+            tiledLevel.getMapPixelWidth(), tiledLevel.getMapPixelHeight());
+        simulation.setChunks(tiledLevel.getChunks());
+        simulation.setProfiler(profiler);
+        if (recorder != null) recorder.levelLoaded(mapPath);
+
+        accumulator = 0f;
         centerCameraOnPlayer();
     }
 
@@ -154,53 +215,54 @@ public class Main extends ApplicationAdapter {
             return;
         }
 
-        // Debug: перемикання рівня
-        if (Gdx.input.isKeyJustPressed(Input.Keys.N)) {
-            currentLevelIndex = (currentLevelIndex + 1) % levelPaths.size();
-            loadLevel(currentLevelIndex);
-        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) profiler.toggle();
+        profiler.beginFrame();
 
-        // Оновлюємо гравця
-        if (player.isAlive()) {
-            player.update(delta, world.getPlatformBounds(), world.getEnemies());
-        }
+        // Фонове завантаження; готовий рівень підміняється на початку кадру
+        levels.update();
+        if (pendingLevel != null && levels.isReady(pendingLevel)) loadLevel(pendingLevel);
 
-        // Оновлюємо ворогів
-        world.update(delta, player, world.getPlatformBounds());
-
-        // Збір монет
-        Iterator<GameObject> it = world.getObjects().iterator();
-        while (it.hasNext()) {
-            GameObject obj = it.next();
-            if (obj instanceof Coin) {
-                Coin coin = (Coin) obj;
-                coin.update(delta, player);
-                if (coin.isFinished()) it.remove();
-            }
+        // Debug: перемикання рівня
+        if (Gdx.input.isKeyJustPressed(Input.Keys.N) && replay == null) {
+            requestLevel(levels.next(pendingLevel != null ? pendingLevel : currentLevel));
         }
 
-
-        // Перевірка падіння
-        Rectangle pb = player.getBounds();
-        if (pb.y + pb.height < 0) {
-            fallTimer += delta;
-            if (fallTimer >= FALL_DEATH_DELAY) {
-                player.takeDamage(player.getHealth());
+        // Симуляція фіксованими кроками
+        profiler.begin(FrameProfiler.Phase.INPUT);
+        if (replay == null) input.poll();
+        profiler.end(FrameProfiler.Phase.INPUT);
+        accumulator += Math.min(delta, MAX_FRAME_TIME);
+        int steps = 0;
+        while (accumulator >= SIM_STEP && steps < MAX_STEPS) {
+            if (replay != null) {
+                // Рівень з запису перезавантажено — крок піде вже з наступного кадру
+                if (loadReplayLevels()) break;
+                nextReplayTick();
             }
-        } else {
-            fallTimer = 0f;
+            if (recorder != null) recorder.record(input);
+            simulation.step(SIM_STEP);
+            input.endTick();
+            accumulator -= SIM_STEP;
+            steps++;
         }
+        if (steps == MAX_STEPS) accumulator = Math.min(accumulator, SIM_STEP);
+        float alpha = accumulator / SIM_STEP;
 
+        player.interpolate(alpha);
         centerCameraOnPlayer();
 
         // Рендер мапи та спрайтів
         gameViewport.apply(false);
         camera.update();
+        profiler.begin(FrameProfiler.Phase.MAP);
         tiledLevel.renderMap(camera);
+        profiler.end(FrameProfiler.Phase.MAP);
+        profiler.addRenderCalls(tiledLevel.getRenderCalls());
 
+        profiler.begin(FrameProfiler.Phase.SPRITES);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
-        world.render(batch);
+        world.render(batch, alpha, cameraView);
         if (player != null) player.render(batch);
         font.draw(batch,
             "Coins: " + (player != null ? player.getCoins() : 0),
@@ -208,17 +270,25 @@ public class Main extends ApplicationAdapter {
             camera.position.y + gameViewport.getWorldHeight()/2f - 20
         );
         batch.end();
+        profiler.end(FrameProfiler.Phase.SPRITES);
+        profiler.addRenderCalls(batch.renderCalls);
+        profiler.setMaxSpritesInBatch(batch.maxSpritesInBatch);
+        batch.maxSpritesInBatch = 0; // максимум — за кадр, а не за всю гру
 
         // Дебаг-хітбокси
+        profiler.begin(FrameProfiler.Phase.DEBUG);
         shapeRenderer.setProjectionMatrix(camera.combined);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
         if (player != null) player.renderHitbox(shapeRenderer);
-        for (BaseEnemy e : world.getEnemies()) {
+        for (BaseEnemy e : world.getVisibleEnemies()) {
             e.renderHitbox(shapeRenderer);
         }
+        world.getProjectiles().renderHitboxes(shapeRenderer);
         shapeRenderer.end();
+        profiler.end(FrameProfiler.Phase.DEBUG);
 
         // Бар здоров’я
+        profiler.begin(FrameProfiler.Phase.HUD);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         float barX = camera.position.x - gameViewport.getWorldWidth()/2f + 10;
         float barY = camera.position.y + gameViewport.getWorldHeight()/2f - 30;
@@ -231,8 +301,10 @@ public class Main extends ApplicationAdapter {
         shapeRenderer.setColor(0.1f,0.8f,0.1f,1f);
         shapeRenderer.rect(barX, barY, barW*pct, barH);
         shapeRenderer.end();
+        profiler.end(FrameProfiler.Phase.HUD);
 
         // UI смерті
+        profiler.begin(FrameProfiler.Phase.UI);
         if (player != null && !player.isAlive()) {
             if (Gdx.input.getInputProcessor() != uiStage) {
                 Gdx.input.setInputProcessor(uiStage);
@@ -240,11 +312,47 @@ public class Main extends ApplicationAdapter {
             uiStage.act(delta);
             uiStage.draw();
         }
+        profiler.end(FrameProfiler.Phase.UI);
+
+        // Оверлей профайлера (сам себе не міряє)
+        if (profiler.isEnabled()) {
+            profiler.setEntityCounts(
+                world.getEnemies().size(), world.getVisibleEnemies().size(),
+                world.getObjects().size(), world.getProjectiles().size()
+            );
+            profiler.endFrame();
+            profiler.render(batch, shapeRenderer, font);
+        }
+    }
+
+    /** Завантажити рівні, що стоять у записі перед наступним кроком; true — якщо були */
+    private boolean loadReplayLevels() {
+        boolean loaded = false;
+        String path;
+        while (replay != null && (path = replay.nextLevelLoad()) != null) {
+            if (!levels.isKnown(path)) {
+                Gdx.app.error("Replay", "unknown level " + path + ", replay stopped");
+                replay = null;
+                break;
+            }
+            loadLevel(path); // повтор не чекає фону — карта потрібна до наступного кроку
+            loaded = true;
+        }
+        return loaded;
+    }
+
+    /** Клавіші наступного кроку з запису; після кінця запису — знову клавіатура */
+    private void nextReplayTick() {
+        if (!replay.next(input)) {
+            Gdx.app.log("Replay", "finished");
+            replay = null;
+            input.setMasks(0, 0);
+        }
     }
 
     private void centerCameraOnPlayer() {
         if (player == null || tiledLevel == null) return;
-        Rectangle b = player.getBounds();
+        Rectangle b = player.getRenderBounds();
         float halfW = gameViewport.getWorldWidth()/2f;
         float halfH = gameViewport.getWorldHeight()/2f;
         float mapW  = tiledLevel.getMapPixelWidth();
@@ -256,10 +364,25 @@ public class Main extends ApplicationAdapter {
             0f
         );
         camera.update();
+        cameraView.set(camera.position.x - halfW, camera.position.y - halfH, halfW * 2f, halfH * 2f);
     }
 
+    /**
+     * Перезапуск поточного рівня без завантажень: світ, карта, рендер і гравець
+     * ті самі, об'єкти повертаються з таблиць спавну чанків. Для запису — як
+     * повторне завантаження рівня, повтор відтворює його через loadLevel.
+     */
     private void restartLevel() {
-        loadLevel(currentLevelIndex);
+        long start = TimeUtils.nanoTime();
+        world.reset();
+        tiledLevel.getChunks().reset(world);
+        player.reset(tiledLevel.getStartX(), tiledLevel.getStartY());
+        simulation.reset();
+        if (recorder != null) recorder.levelLoaded(currentLevel);
+
+        accumulator = 0f;
+        centerCameraOnPlayer();
+        Gdx.app.log("Level", "restarted in " + TimeUtils.timeSinceNanos(start) / 1e6f + " ms");
     }
 
     @Override
@@ -271,10 +394,17 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void dispose() {
+        if (recorder != null) {
+            recorder.save(recordFile);
+            Gdx.app.log("Replay", "saved " + recorder.getTicks() + " ticks to " + recordFile.path());
+        }
         batch.dispose();
         shapeRenderer.dispose();
         if (player != null)    player.dispose();
         if (tiledLevel != null) tiledLevel.dispose();
+        EnemyAnimationRegistry.dispose();
+        GameAtlas.dispose();
+        AssetPack.dispose();
         if (assetManager != null) assetManager.dispose();
         if (uiStage != null)    uiStage.dispose();
         if (font != null)       font.dispose();
@@ -2,6 +2,9 @@ package org.projectplatformer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import org.projectplatformer.profiling.GameEvents;
+
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,14 +16,19 @@ public class SaveManager {
         String path = SAVE_DIR + "slot" + slot + ".json";
         FileHandle f = Gdx.files.local(path);
         if (!f.exists()) return new SaveData(); // або null
-        return new com.badlogic.gdx.utils.Json().fromJson(SaveData.class, f.readString());
+        Object span = GameEvents.begin(GameEvents.Type.SAVE_READ);
+        SaveData data = new com.badlogic.gdx.utils.Json().fromJson(SaveData.class, f.readString());
+        GameEvents.save(span, path, f.length());
+        return data;
     }
 
     /** Зберегти SaveData у слот */
     public static void save(int slot, SaveData data) {
         String path = SAVE_DIR + "slot" + slot + ".json";
+        Object span = GameEvents.begin(GameEvents.Type.SAVE_WRITE);
         String json = new com.badlogic.gdx.utils.Json().toJson(data);
         Gdx.files.local(path).writeString(json, false);
+        GameEvents.save(span, path, json.getBytes(StandardCharsets.UTF_8).length);
     }
 
     /** Повернути список номерів слотів, у яких є існуючий файл */
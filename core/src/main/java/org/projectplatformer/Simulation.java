@@ -0,0 +1,102 @@
+package org.projectplatformer;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import org.projectplatformer.levellogic.LevelChunks;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.player.Player;
+import org.projectplatformer.profiling.FrameProfiler;
+
+/**
+ * Один рівень гри без рендеру: гравець, вороги, снаряди, монети, смерть від падіння.
+ * Не залежить від вікна, камери чи клавіатури — тому її крокує і {@link Main},
+ * і headless-прогін.
+ *
+ * Область активності ворогів рахується щокроку від позиції гравця, а не від
+ * камери кадру: інакше результат залежав би від FPS і повтор запису розходився б.
+ * Від тієї ж області підвантажуються й звільняються чанки рівня.
+ */
+public class Simulation {
+    /** Фіксований крок симуляції, с */
+    public static final float STEP = 1f / 120f;
+    private static final float FALL_DEATH_DELAY = 0.5f;
+
+    /** Кадр навколо гравця, від якого рахується область активності ворогів */
+    public static final float VIEW_WIDTH  = 800f;
+    public static final float VIEW_HEIGHT = 480f;
+
+    private final World  world;
+    private final Player player;
+    private final float  mapWidth, mapHeight;
+    private float fallTimer = 0f;
+    private FrameProfiler profiler; // null — без вимірювань
+    private LevelChunks   chunks;   // null — усі об'єкти рівня вже у світі
+
+    public Simulation(World world, Player player, float mapWidth, float mapHeight) {
+        this.world     = world;
+        this.player    = player;
+        this.mapWidth  = mapWidth;
+        this.mapHeight = mapHeight;
+    }
+
+    /** Один крок гри */
+    public void step(float delta) {
+        updateActiveRegion();
+
+        // Оновлюємо гравця
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.PLAYER);
+        if (player.isAlive()) {
+            player.update(delta, world.getCollisionMap(), world);
+        }
+        if (profiler != null) profiler.end(FrameProfiler.Phase.PLAYER);
+
+        // Оновлюємо ворогів і снаряди
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.WORLD);
+        world.update(delta, player);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.WORLD);
+
+        // Збір монет
+        if (profiler != null) profiler.begin(FrameProfiler.Phase.COINS);
+        world.updateCoins(delta, player);
+        if (profiler != null) profiler.end(FrameProfiler.Phase.COINS);
+
+        // Перевірка падіння
+        Rectangle pb = player.getBounds();
+        if (pb.y + pb.height < 0) {
+            fallTimer += delta;
+            if (fallTimer >= FALL_DEATH_DELAY) {
+                player.takeDamage(player.getHealth());
+            }
+        } else {
+            fallTimer = 0f;
+        }
+    }
+
+    /** Кадр «камери» навколо гравця, притиснутий до меж карти */
+    private void updateActiveRegion() {
+        Rectangle b = player.getBounds();
+        float halfW = VIEW_WIDTH / 2f, halfH = VIEW_HEIGHT / 2f;
+        float cx = MathUtils.clamp(b.x + b.width / 2f,  halfW, mapWidth  - halfW);
+        float cy = MathUtils.clamp(b.y + b.height / 2f, halfH, mapHeight - halfH);
+        world.setActiveRegion(cx - halfW, cy - halfH, VIEW_WIDTH, VIEW_HEIGHT);
+        if (chunks != null) chunks.update(world, world.getActiveRegion());
+    }
+
+    /** Чанки рівня; чанки біля гравця підвантажуються одразу, ще до першого кроку */
+    public void setChunks(LevelChunks chunks) {
+        this.chunks = chunks;
+        updateActiveRegion();
+    }
+
+    /** Після перезапуску рівня на місці: лічильник падіння з нуля, чанки біля гравця — одразу */
+    public void reset() {
+        fallTimer = 0f;
+        updateActiveRegion();
+    }
+
+    /** Міряти фази кроку (гравець, світ, монети) */
+    public void setProfiler(FrameProfiler profiler) { this.profiler = profiler; }
+
+    public World  getWorld()  { return world; }
+    public Player getPlayer() { return player; }
+}
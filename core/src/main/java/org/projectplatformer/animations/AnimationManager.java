@@ -6,6 +6,8 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import org.projectplatformer.assets.AssetPack;
+import org.projectplatformer.profiling.GameEvents;
 
 import java.util.Arrays;
 import java.util.Comparator;
@@ -20,10 +22,15 @@ public class AnimationManager {
     }
 
     private final Map<State, Animation<TextureRegion>> animations = new HashMap<>();
+    // Ті самі анімації, дзеркальні по X (гравець дивиться вліво) — готуються один раз при завантаженні
+    private final Map<State, Animation<TextureRegion>> mirrored   = new HashMap<>();
     private State currentState = State.IDLE;
     private float stateTime = 0f;
     private boolean facingRight = true;
 
+    // Текстури окремих PNG (коли немає атласу) — лише їх і звільняємо
+    private final Array<Texture> ownedTextures = new Array<>();
+
     public AnimationManager() {
         String base = "Player/";
 
@@ -43,16 +50,46 @@ public class AnimationManager {
                 Gdx.app.log("AnimationManager", "Warning: No animation loaded for state: " + state);
             }
         }
+
+        for (Map.Entry<State, Animation<TextureRegion>> e : animations.entrySet()) {
+            mirrored.put(e.getKey(), mirror(e.getValue()));
+        }
+    }
+
+    /** Копія анімації з відзеркаленими кадрами (текстури спільні, копіюються лише регіони) */
+    private static Animation<TextureRegion> mirror(Animation<TextureRegion> anim) {
+        TextureRegion[] src = anim.getKeyFrames();
+        Array<TextureRegion> frames = new Array<>(src.length);
+        for (TextureRegion r : src) {
+            TextureRegion flipped = new TextureRegion(r);
+            flipped.flip(true, false);
+            frames.add(flipped);
+        }
+        return new Animation<>(anim.getFrameDuration(), frames, anim.getPlayMode());
     }
 
     private Animation<TextureRegion> loadAnimation(String dirPath, float frameDuration, boolean loop) {
-        FileHandle dir = Gdx.files.internal(dirPath);
+        Object span = GameEvents.begin(GameEvents.Type.ANIMATION_LOAD);
+        // Спершу — атлас: усі кадри на одній текстурі, без перемикань у SpriteBatch
+        Array<TextureRegion> packed = GameAtlas.findFrames(dirPath);
+        boolean fromAtlas = packed.size > 0;
+        Animation<TextureRegion> anim = fromAtlas
+            ? new Animation<>(frameDuration, packed, loop ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL)
+            : loadFiles(dirPath, frameDuration, loop);
+        GameEvents.animationLoad(span, dirPath, anim.getKeyFrames().length, fromAtlas);
+        return anim;
+    }
+
+    /** Кадри з окремих PNG теки (коли в атласі їх немає) */
+    private Animation<TextureRegion> loadFiles(String dirPath, float frameDuration, boolean loop) {
+        FileHandle dir = AssetPack.internal(dirPath);
         FileHandle[] files = dir.list("png");
         Gdx.app.log("AnimMgr", "Loading '" + dirPath + "' -> exists=" + dir.exists() + ", png-files=" + files.length);
 
         if (files.length == 0) {
             Gdx.app.error("AnimMgr", "No frames found in " + dirPath);
-            Texture fallbackTexture = new Texture("Prince.png");
+            Texture fallbackTexture = new Texture(AssetPack.internal("Prince.png"));
+            ownedTextures.add(fallbackTexture);
             TextureRegion fallback = new TextureRegion(fallbackTexture);
             Array<TextureRegion> single = new Array<>(new TextureRegion[]{fallback});
             return new Animation<>(frameDuration, single, loop ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL);
@@ -61,7 +98,9 @@ public class AnimationManager {
         Arrays.sort(files, Comparator.comparing(FileHandle::name));
         Array<TextureRegion> frames = new Array<>();
         for (FileHandle f : files) {
-            frames.add(new TextureRegion(new Texture(f)));
+            Texture tex = new Texture(f);
+            ownedTextures.add(tex);
+            frames.add(new TextureRegion(tex));
         }
         return new Animation<>(frameDuration, frames, loop ? Animation.PlayMode.LOOP : Animation.PlayMode.NORMAL);
     }
@@ -94,26 +133,22 @@ public class AnimationManager {
     }
 
     /**
-     * Поточний кадр анімації (копія, з фліпом якщо треба).
+     * Поточний кадр анімації, вже повернутий у бік погляду.
+     * Кадри спільні й підготовлені заздалегідь — виклик нічого не алокує,
+     * тож результат не можна змінювати (flip, setRegion тощо).
      */
     public TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animations.get(currentState);
+        Map<State, Animation<TextureRegion>> set = facingRight ? animations : mirrored;
+        Animation<TextureRegion> animation = set.get(currentState);
         if (animation == null) {
             Gdx.app.error("AnimationManager", "No animation for state: " + currentState);
-            animation = animations.get(State.IDLE);
+            animation = set.get(State.IDLE);
             if (animation == null) {
                 throw new IllegalStateException("Default (IDLE) animation missing!");
             }
         }
         boolean looping = animation.getPlayMode() == Animation.PlayMode.LOOP;
-        TextureRegion original = animation.getKeyFrame(stateTime, looping);
-
-        TextureRegion region = new TextureRegion(original);
-        boolean shouldFlip = !facingRight;
-        if (region.isFlipX() != shouldFlip) {
-            region.flip(true, false);
-        }
-        return region;
+        return animation.getKeyFrame(stateTime, looping);
     }
 
     public State getCurrentState() {
@@ -127,11 +162,11 @@ public class AnimationManager {
         return anim != null && anim.isAnimationFinished(stateTime);
     }
 
+    /** Звільняє лише власні текстури; сторінки атласу спільні ({@link GameAtlas}) */
     public void dispose() {
-        for (Animation<TextureRegion> anim : animations.values()) {
-            for (TextureRegion r : anim.getKeyFrames()) {
-                r.getTexture().dispose();
-            }
+        for (Texture tex : ownedTextures) {
+            tex.dispose();
         }
+        ownedTextures.clear();
     }
 }
@@ -0,0 +1,72 @@
+package org.projectplatformer.animations;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import org.projectplatformer.assets.AssetPack;
+
+/**
+ * Спільний атлас кадрів гравця та ворогів (збирається задачею Gradle
+ * {@code :core:packTextures}). Імена регіонів — шляхи PNG відносно assets
+ * без розширення, напр. "Player/Walk/Prince walk1" чи "Enemies/Goblin/Goblin3".
+ *
+ * Якщо атласу немає (запуск без пакування), усі методи повертають null,
+ * і анімації завантажують окремі PNG як раніше.
+ */
+public final class GameAtlas {
+    public static final String PATH = "atlas/game.atlas";
+
+    private static TextureAtlas atlas;
+    private static boolean      checked = false;
+
+    private GameAtlas() {}
+
+    /** Атлас або null, якщо його не зібрано */
+    public static TextureAtlas get() {
+        if (!checked) {
+            checked = true;
+            FileHandle file = AssetPack.internal(PATH);
+            if (file.exists()) {
+                atlas = new TextureAtlas(file);
+            } else {
+                Gdx.app.log("GameAtlas", PATH + " not found, using loose PNG frames");
+            }
+        }
+        return atlas;
+    }
+
+    /** Регіон за ім'ям (шлях без .png) або null */
+    public static TextureRegion findRegion(String name) {
+        TextureAtlas a = get();
+        return a == null ? null : a.findRegion(name);
+    }
+
+    /**
+     * Кадри з однієї папки (без вкладених), відсортовані за ім'ям —
+     * той самий порядок, що й у завантаженні з диска. Порожній масив, якщо атласу немає.
+     */
+    public static Array<TextureRegion> findFrames(String dirPath) {
+        Array<TextureRegion> frames = new Array<>();
+        TextureAtlas a = get();
+        if (a == null) return frames;
+
+        String prefix = dirPath.endsWith("/") ? dirPath : dirPath + "/";
+        Array<TextureAtlas.AtlasRegion> matches = new Array<>();
+        for (TextureAtlas.AtlasRegion r : a.getRegions()) {
+            if (r.name.startsWith(prefix) && r.name.indexOf('/', prefix.length()) < 0) {
+                matches.add(r);
+            }
+        }
+        matches.sort((x, y) -> x.name.compareTo(y.name));
+        for (TextureAtlas.AtlasRegion r : matches) frames.add(r);
+        return frames;
+    }
+
+    public static void dispose() {
+        if (atlas != null) atlas.dispose();
+        atlas   = null;
+        checked = false;
+    }
+}
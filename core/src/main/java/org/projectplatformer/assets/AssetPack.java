@@ -0,0 +1,211 @@
+package org.projectplatformer.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Усі ресурси гри одним файлом {@link #PATH}, відображеним у пам'ять (FileChannel.map).
+ * Збирається задачею Gradle {@code :core:packAssets} ({@link AssetPacker}).
+ *
+ * Формат (big-endian):
+ * <pre>
+ *   int MAGIC, int VERSION, int count
+ *   count × { short len, byte[len] шлях UTF-8, int offset, int length } — відсортовано за шляхом
+ *   далі дані файлів підряд, у тому ж порядку
+ * </pre>
+ * Файли віддаються як {@link PackFileHandle} — зрізи одного буфера без копій і
+ * без системних викликів. Каталоги виводяться зі шляхів, тож list() працює
+ * без звернень до файлової системи.
+ *
+ * Пак зі справжнього файлу (робоча тека, ресурси classpath у розробці)
+ * відображається в пам'ять. У jar лаунчера пак лежить замість окремих ресурсів
+ * (lwjgl3/build.gradle) — звідти він один раз читається в буфер. Якщо паку
+ * немає зовсім, {@link #internal} повертає звичайні internal-файли.
+ */
+public final class AssetPack {
+    public static final String PATH = "pack/game.pack";
+
+    static final int MAGIC   = 0x5350414B; // "SPAK"
+    static final int VERSION = 1;
+
+    private static AssetPack instance;
+    private static boolean   checked = false;
+
+    private final ByteBuffer data;    // увесь файл; позицію не змінюємо — лише абсолютні читання
+    private final String[]   paths;   // відсортовані
+    private final int[]      offsets, lengths;
+
+    private AssetPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.getInt(0) != MAGIC) throw new IOException("not an asset pack");
+        int version = data.getInt(4);
+        if (version != VERSION) throw new IOException("unsupported pack version " + version);
+        int count = data.getInt(8);
+        paths   = new String[count];
+        offsets = new int[count];
+        lengths = new int[count];
+        int pos = 12;
+        for (int i = 0; i < count; i++) {
+            int len = data.getShort(pos) & 0xFFFF;
+            byte[] name = new byte[len];
+            for (int b = 0; b < len; b++) name[b] = data.get(pos + 2 + b);
+            paths[i]   = new String(name, StandardCharsets.UTF_8);
+            offsets[i] = data.getInt(pos + 2 + len);
+            lengths[i] = data.getInt(pos + 6 + len);
+            pos += 10 + len;
+        }
+    }
+
+    /** Пак або null, якщо його не зібрано */
+    public static AssetPack get() {
+        if (!checked) {
+            checked = true;
+            File file = locate();
+            if (file == null) {
+                instance = readResource();
+                if (instance == null) Gdx.app.log("AssetPack", PATH + " not found, using loose files");
+            } else {
+                try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+                     FileChannel channel = raf.getChannel()) {
+                    // Відображення лишається дійсним і після закриття каналу
+                    instance = new AssetPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                    Gdx.app.log("AssetPack", "mapped " + file.getPath() + ": " + instance.paths.length + " files");
+                } catch (IOException e) {
+                    Gdx.app.error("AssetPack", file.getPath() + ": " + e.getMessage() + ", using loose files");
+                }
+            }
+        }
+        return instance;
+    }
+
+    /** Файл з паку, якщо він там є, інакше Gdx.files.internal */
+    public static FileHandle internal(String path) {
+        AssetPack pack = get();
+        String p = normalize(path);
+        if (pack != null && (pack.indexOf(p) >= 0 || pack.isDirectory(p))) return new PackFileHandle(pack, p);
+        return Gdx.files.internal(path);
+    }
+
+    /** Вміст файлу буфером: з паку — зріз без копіювання, інакше — прочитаний масив */
+    public static ByteBuffer buffer(FileHandle file) {
+        return file instanceof PackFileHandle ? file.map() : ByteBuffer.wrap(file.readBytes());
+    }
+
+    public static void dispose() {
+        // Відображення звільнить GC; наступний get() відкриє пак знову
+        instance = null;
+        checked  = false;
+    }
+
+    /** Пак на диску: поруч із робочою текою або серед ресурсів classpath (не в jar) */
+    private static File locate() {
+        File file = Gdx.files.internal(PATH).file();
+        if (file.isFile()) return file;
+        URL url = AssetPack.class.getResource("/" + PATH);
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return new File(url.toURI());
+            } catch (Exception ignored) {
+                // шлях не перетворюється на File — як і без паку
+            }
+        }
+        return null;
+    }
+
+    /** Пак усередині jar: відобразити не можна, тож читаємо його цілком одним буфером */
+    private static AssetPack readResource() {
+        InputStream in = AssetPack.class.getResourceAsStream("/" + PATH);
+        if (in == null) return null;
+        try {
+            byte[] bytes = StreamUtils.copyStreamToByteArray(in, 1 << 20);
+            AssetPack pack = new AssetPack(ByteBuffer.wrap(bytes));
+            Gdx.app.log("AssetPack", "read " + PATH + " from classpath: " + pack.paths.length + " files");
+            return pack;
+        } catch (IOException e) {
+            Gdx.app.error("AssetPack", PATH + ": " + e.getMessage() + ", using loose files");
+            return null;
+        } finally {
+            StreamUtils.closeQuietly(in);
+        }
+    }
+
+    // --- зріз і каталоги; шляхи тут уже нормалізовані ---
+
+    int indexOf(String path) {
+        int i = Arrays.binarySearch(paths, path);
+        return i >= 0 ? i : -1;
+    }
+
+    boolean contains(String path) {
+        return indexOf(path) >= 0;
+    }
+
+    int length(int index) {
+        return lengths[index];
+    }
+
+    /** Окремий буфер на файл: кожен потік читає свій зріз, спільний не рухається */
+    ByteBuffer slice(int index) {
+        ByteBuffer dup = data.duplicate();
+        dup.limit(offsets[index] + lengths[index]);
+        dup.position(offsets[index]);
+        return dup.slice();
+    }
+
+    boolean isDirectory(String path) {
+        if (path.isEmpty()) return true;
+        String prefix = path + "/";
+        int i = firstWithPrefix(prefix);
+        return i < paths.length && paths[i].startsWith(prefix);
+    }
+
+    /** Безпосередні діти каталогу: файли й підкаталоги, за іменем */
+    List<String> children(String dir) {
+        String prefix = dir.isEmpty() ? "" : dir + "/";
+        List<String> out = new ArrayList<>();
+        for (int i = firstWithPrefix(prefix); i < paths.length && paths[i].startsWith(prefix); i++) {
+            int slash = paths[i].indexOf('/', prefix.length());
+            String child = slash < 0 ? paths[i] : paths[i].substring(0, slash);
+            if (out.isEmpty() || !out.get(out.size() - 1).equals(child)) out.add(child);
+        }
+        return out;
+    }
+
+    private int firstWithPrefix(String prefix) {
+        int i = Arrays.binarySearch(paths, prefix);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /** a\b/./c/../d → a/b/d, без початкового і кінцевого слеша */
+    static String normalize(String path) {
+        String[] parts = path.replace('\\', '/').split("/");
+        List<String> out = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            if (part.isEmpty() || ".".equals(part)) continue;
+            if ("..".equals(part)) {
+                if (!out.isEmpty()) out.remove(out.size() - 1);
+            } else {
+                out.add(part);
+            }
+        }
+        StringBuilder sb = new StringBuilder(path.length());
+        for (String part : out) {
+            if (sb.length() > 0) sb.append('/');
+            sb.append(part);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package org.projectplatformer.assets;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Збирає {@link AssetPack} для задачі Gradle {@code :core:packAssets}.
+ * Аргументи: [тека assets] [файл паку]. Сам пак і assets.txt у пак не потрапляють.
+ */
+public final class AssetPacker {
+    private AssetPacker() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: AssetPacker <assets dir> <pack file>");
+            System.exit(2);
+        }
+        File root = new File(args[0]).getCanonicalFile();
+        File out  = new File(args[1]).getCanonicalFile();
+
+        // Шлях → файл, у порядку шляхів: сусідні файли однієї теки лежать поруч
+        TreeMap<String, File> files = new TreeMap<>();
+        collect(root, "", out, files);
+
+        List<byte[]> names = new ArrayList<>(files.size());
+        long tocSize = 12;
+        for (String path : files.keySet()) {
+            byte[] name = path.getBytes(StandardCharsets.UTF_8);
+            if (name.length > 0xFFFF) throw new IOException("path too long: " + path);
+            names.add(name);
+            tocSize += 10 + name.length;
+        }
+
+        File dir = out.getParentFile();
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) throw new IOException("cannot create " + dir);
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(out), 1 << 16))) {
+            dos.writeInt(AssetPack.MAGIC);
+            dos.writeInt(AssetPack.VERSION);
+            dos.writeInt(files.size());
+            long offset = tocSize;
+            int i = 0;
+            for (File f : files.values()) {
+                byte[] name = names.get(i++);
+                dos.writeShort(name.length);
+                dos.write(name);
+                if (offset + f.length() > Integer.MAX_VALUE) throw new IOException("pack exceeds 2 GB");
+                dos.writeInt((int) offset);
+                dos.writeInt((int) f.length());
+                offset += f.length();
+            }
+            for (File f : files.values()) dos.write(Files.readAllBytes(f.toPath()));
+        }
+        System.out.println("packed " + files.size() + " files into " + out.getName() + " (" + out.length() + " bytes)");
+    }
+
+    private static void collect(File dir, String prefix, File out, TreeMap<String, File> files) throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) return;
+        for (File f : children) {
+            String path = prefix + f.getName();
+            if (f.isDirectory()) {
+                collect(f, path + "/", out, files);
+            } else if (!f.getCanonicalFile().equals(out) && !"assets.txt".equals(path)) {
+                files.put(path, f);
+            }
+        }
+    }
+}
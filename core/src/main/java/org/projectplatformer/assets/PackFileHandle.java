@@ -0,0 +1,145 @@
+package org.projectplatformer.assets;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Файл або каталог з {@link AssetPack}. Читання йде з буфера паку:
+ * {@link #map()} — зріз без копіювання, read()/readBytes() копіюють з пам'яті
+ * без звернень до диска. Запис не підтримується, як і для internal-файлів.
+ */
+public class PackFileHandle extends FileHandle {
+    private final AssetPack pack;
+    private final String    packPath; // нормалізований шлях у паку
+
+    PackFileHandle(AssetPack pack, String packPath) {
+        super(packPath, FileType.Internal);
+        this.pack     = pack;
+        this.packPath = packPath;
+    }
+
+    @Override
+    public boolean exists() {
+        return pack.contains(packPath) || pack.isDirectory(packPath);
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return !pack.contains(packPath) && pack.isDirectory(packPath);
+    }
+
+    @Override
+    public long length() {
+        int i = pack.indexOf(packPath);
+        return i < 0 ? 0L : pack.length(i);
+    }
+
+    @Override
+    public long lastModified() {
+        return 0L;
+    }
+
+    @Override
+    public ByteBuffer map() {
+        return pack.slice(entry());
+    }
+
+    @Override
+    public ByteBuffer map(FileChannel.MapMode mode) {
+        if (mode != FileChannel.MapMode.READ_ONLY) throw new GdxRuntimeException("Asset pack is read-only: " + packPath);
+        return map();
+    }
+
+    @Override
+    public InputStream read() {
+        return new BufferInputStream(map());
+    }
+
+    @Override
+    public byte[] readBytes() {
+        ByteBuffer buf = map();
+        byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public FileHandle[] list() {
+        List<String> children = pack.children(packPath);
+        FileHandle[] out = new FileHandle[children.size()];
+        for (int i = 0; i < out.length; i++) out[i] = new PackFileHandle(pack, children.get(i));
+        return out;
+    }
+
+    @Override
+    public FileHandle[] list(String suffix) {
+        List<FileHandle> out = new ArrayList<>();
+        for (String child : pack.children(packPath)) {
+            if (child.endsWith(suffix)) out.add(new PackFileHandle(pack, child));
+        }
+        return out.toArray(new FileHandle[0]);
+    }
+
+    @Override
+    public FileHandle child(String name) {
+        return AssetPack.internal(packPath.isEmpty() ? name : packPath + "/" + name);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        if (packPath.isEmpty()) throw new GdxRuntimeException("Cannot get the sibling of the root.");
+        return parent().child(name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        int slash = packPath.lastIndexOf('/');
+        return new PackFileHandle(pack, slash < 0 ? "" : packPath.substring(0, slash));
+    }
+
+    private int entry() {
+        int i = pack.indexOf(packPath);
+        if (i < 0) throw new GdxRuntimeException("File not found in asset pack: " + packPath);
+        return i;
+    }
+
+    /** InputStream поверх власного зрізу буфера */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buf;
+
+        BufferInputStream(ByteBuffer buf) { this.buf = buf; }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buf.hasRemaining()) return -1;
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int k = (int) Math.max(0L, Math.min(n, buf.remaining()));
+            buf.position(buf.position() + k);
+            return k;
+        }
+
+        @Override
+        public int available() {
+            return buf.remaining();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.projectplatformer.assets;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+
+/** Резолвер для AssetManager: файли з {@link AssetPack}, а яких там немає — internal */
+public class PackFileHandleResolver implements FileHandleResolver {
+    @Override
+    public FileHandle resolve(String fileName) {
+        return AssetPack.internal(fileName);
+    }
+}
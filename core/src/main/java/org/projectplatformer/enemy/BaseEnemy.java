@@ -2,12 +2,14 @@ package org.projectplatformer.enemy;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import org.projectplatformer.objectslogic.SimClock;
 import org.projectplatformer.player.Player;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.physics.PhysicsComponent;
-
-import java.util.List;
+import org.projectplatformer.weapon.ProjectileSystem;
 
 public abstract class BaseEnemy {
     protected final PhysicsComponent physics;
@@ -23,6 +25,12 @@ public abstract class BaseEnemy {
     private   float   attackTimer = 0f;
     protected Rectangle attackHitbox = new Rectangle();
 
+    // Снаряди світу (для ворогів, що стріляють); задає World при додаванні
+    protected ProjectileSystem projectiles;
+
+    // Час і випадковість симуляції (замість годинника системи); задає World
+    protected SimClock clock = new SimClock(0L);
+
     public BaseEnemy(float x, float y, float width, float height,
                      Texture tex, int initialHp,
                      float gravity, float maxFallSpeed,
@@ -36,7 +44,7 @@ public abstract class BaseEnemy {
         this.health  = initialHp;
     }
 
-    public void update(float delta, Player player, List<Rectangle> platforms) {
+    public void update(float delta, Player player, CollisionMap platforms) {
         if (!alive || deadAndGone) return;
 
         // AI логіка: встановлює швидкості через physics.setVelocityX/Y
@@ -68,7 +76,7 @@ public abstract class BaseEnemy {
         }
     }
 
-    protected abstract void aiMove(float delta, Player player, List<Rectangle> platforms);
+    protected abstract void aiMove(float delta, Player player, CollisionMap platforms);
 
     protected void computeAttackHitbox(Player player) {
         float w = 20f, h = 10f;
@@ -79,9 +87,19 @@ public abstract class BaseEnemy {
         attackHitbox.set(x, y, w, h);
     }
 
+    /** Запам'ятати позицію перед кроком симуляції (для інтерполяції) */
+    public void savePreviousPosition() {
+        physics.savePreviousPosition();
+    }
+
+    /** Обчислити позицію для рендеру між двома кроками симуляції */
+    public void interpolate(float alpha) {
+        physics.interpolate(alpha);
+    }
+
     public void render(SpriteBatch batch) {
         if (!alive || deadAndGone) return;
-        Rectangle b = physics.getBounds();
+        Rectangle b = physics.getRenderBounds();
         batch.draw(texture, b.x, b.y, b.width, b.height);
     }
 
@@ -96,7 +114,12 @@ public abstract class BaseEnemy {
         }
     }
 
+    /** Кадр анімації для рендеру; null — ворог малює статичну texture */
+    public TextureRegion getCurrentFrame() { return null; }
+
     public Rectangle getBounds() { return physics.getBounds(); }
+    /** Інтерпольована позиція для малювання (див. {@link #interpolate(float)}) */
+    public Rectangle getRenderBounds() { return physics.getRenderBounds(); }
     public boolean   isAlive()   { return alive; }
 
     public void takeDamage(int dmg) {
@@ -105,6 +128,11 @@ public abstract class BaseEnemy {
         if (health <= 0) alive = false;
     }
 
+    /** Снаряди світу; задає World.addEnemy */
+    public void setProjectileSystem(ProjectileSystem projectiles) { this.projectiles = projectiles; }
+    /** Годинник симуляції світу; задає World.addEnemy */
+    public void setClock(SimClock clock) { this.clock = clock; }
+
     /** Позначає ворога як "зниклого" для прибирання з гри */
     public void setDeadAndGone() { deadAndGone = true; }
     public boolean isDeadAndGone() { return deadAndGone; }
@@ -5,11 +5,10 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import org.projectplatformer.EnemiesAnimation.SkeletonAnimationManager;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.player.Player;
 import org.projectplatformer.weapon.SwordWeapon;
 
-import java.util.List;
-
 public class Skeleton extends BaseEnemy {
     private static final float PATROL_RADIUS   = 80f;
     private static final float PATROL_SPEED    = 50f;
@@ -61,7 +60,7 @@ public class Skeleton extends BaseEnemy {
     }
 
     @Override
-    public void update(float delta, Player player, List<Rectangle> platforms) {
+    public void update(float delta, Player player, CollisionMap platforms) {
         if (isDeadAndGone()) return;
 
         Rectangle b = getBounds();
@@ -128,17 +127,11 @@ public class Skeleton extends BaseEnemy {
     }
 
     @Override
-    protected void aiMove(float delta, Player player, List<Rectangle> platforms) {
+    protected void aiMove(float delta, Player player, CollisionMap platforms) {
         Rectangle b = getBounds();
 
         float belowX = b.x + b.width / 2f;
-        boolean hasGround = false;
-        for (Rectangle p : platforms) {
-            if (belowX >= p.x && belowX <= p.x + p.width && p.y + p.height <= b.y) {
-                hasGround = true;
-                break;
-            }
-        }
+        boolean hasGround = platforms.overlaps(belowX - 1f, 0f, 2f, b.y);
         if (!hasGround) {
             patrolDir = -patrolDir;
             facingRight = patrolDir > 0;
@@ -176,29 +169,14 @@ public class Skeleton extends BaseEnemy {
         // step-up, jump логіка залишаєш свою як була
 
         float aheadX = facingRight ? b.x + b.width + 2f : b.x - 2f;
-        Rectangle probe = new Rectangle(aheadX, b.y, 2f, b.height);
-        boolean wallAhead = false;
-        Rectangle hitP = null;
-        for (Rectangle p : platforms) {
-            if (probe.overlaps(p)) {
-                wallAhead = true;
-                hitP = p;
-                break;
-            }
-        }
+        float wallTop = platforms.firstTop(aheadX, b.y, 2f, b.height);
+        boolean wallAhead = !Float.isNaN(wallTop);
+        float stepH = wallAhead ? wallTop - b.y : 0f;
 
         float footX = b.x + b.width / 2f + (facingRight ? 6f : -6f);
-        Rectangle footPrb = new Rectangle(footX, b.y - 4f, 4f, 4f);
-        boolean groundAhead = false;
-        for (Rectangle p : platforms) {
-            if (footPrb.overlaps(p)) {
-                groundAhead = true;
-                break;
-            }
-        }
+        boolean groundAhead = platforms.overlaps(footX, b.y - 4f, 4f, 4f);
 
         if (wallAhead && onGround && groundAhead) {
-            float stepH = hitP.y + hitP.height - b.y;
             if (stepH <= physics.getMaxStepHeight()) {
                 physics.setVelocityY(STEP_UP_SPEED);
             } else {
@@ -209,11 +187,16 @@ public class Skeleton extends BaseEnemy {
         physics.setVelocityX(moveDir * speed);
     }
 
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return animationManager.getCurrentFrame();
+    }
+
     @Override
     public void render(SpriteBatch batch) {
         if (isDeadAndGone()) return;
-        Rectangle b = getBounds();
-        TextureRegion frame = animationManager.getCurrentFrame();
+        Rectangle b = getRenderBounds();
+        TextureRegion frame = getCurrentFrame();
 
         boolean flip = facingRight != SPRITE_LOOKS_RIGHT;
         if (flip) {
@@ -235,8 +218,4 @@ public class Skeleton extends BaseEnemy {
         }
         slashWeapon.renderTrajectory(r);
     }
-
-    public void dispose() {
-        animationManager.dispose();
-    }
 }
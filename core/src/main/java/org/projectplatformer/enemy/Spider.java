@@ -5,11 +5,10 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import org.projectplatformer.EnemiesAnimation.SpiderAnimationManager;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.player.Player;
 import org.projectplatformer.weapon.SpearWeapon;
 
-import java.util.List;
-
 public class Spider extends BaseEnemy {
     // --- Рух ---
     private static final float PATROL_RADIUS = 80f;
@@ -65,7 +64,7 @@ public class Spider extends BaseEnemy {
     }
 
     @Override
-    public void update(float delta, Player player, List<Rectangle> platforms) {
+    public void update(float delta, Player player, CollisionMap platforms) {
         if (isDeadAndGone()) return;
         if (!isAlive()) {
             setDeadAndGone();
@@ -137,7 +136,7 @@ public class Spider extends BaseEnemy {
     }
 
     @Override
-    protected void aiMove(float delta, Player player, List<Rectangle> platforms) {
+    protected void aiMove(float delta, Player player, CollisionMap platforms) {
         Rectangle b = getBounds();
         float cx = b.x + b.width / 2f;
         Rectangle pb = player.getBounds();
@@ -164,26 +163,10 @@ public class Spider extends BaseEnemy {
 
         boolean onGround = physics.getVelocityY() == 0f;
         float probeX = facingRight ? b.x + b.width + 2f : b.x - 2f;
-        Rectangle probe = new Rectangle(probeX, b.y, 2f, b.height);
-        boolean wallAhead = false;
-        Rectangle hitPlatform = null;
-        for (Rectangle p : platforms) {
-            if (probe.overlaps(p)) {
-                wallAhead = true;
-                hitPlatform = p;
-                break;
-            }
-        }
+        boolean wallAhead = platforms.overlaps(probeX, b.y, 2f, b.height);
 
         float footX = b.x + b.width / 2f + (facingRight ? 6f : -6f);
-        Rectangle footProbe = new Rectangle(footX, b.y - 4f, 4f, 4f);
-        boolean groundAhead = false;
-        for (Rectangle p : platforms) {
-            if (footProbe.overlaps(p)) {
-                groundAhead = true;
-                break;
-            }
-        }
+        boolean groundAhead = platforms.overlaps(footX, b.y - 4f, 4f, 4f);
 
         if (wallAhead || !groundAhead) {
             patrolDir = -patrolDir;
@@ -192,11 +175,16 @@ public class Spider extends BaseEnemy {
         }
     }
 
+    @Override
+    public TextureRegion getCurrentFrame() {
+        return animationManager.getCurrentFrame();
+    }
+
     @Override
     public void render(SpriteBatch batch) {
         if (isDeadAndGone()) return;
-        Rectangle b = getBounds();
-        TextureRegion frame = animationManager.getCurrentFrame();
+        Rectangle b = getRenderBounds();
+        TextureRegion frame = getCurrentFrame();
 
         boolean flip = facingRight != SPRITE_LOOKS_RIGHT;
         if (flip) {
@@ -216,8 +204,4 @@ public class Spider extends BaseEnemy {
             r.rect(hb.x, hb.y, hb.width, hb.height);
         }
     }
-
-    public void dispose() {
-        animationManager.dispose();
-    }
 }
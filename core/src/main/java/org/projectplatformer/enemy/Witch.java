@@ -1,15 +1,18 @@
 package org.projectplatformer.enemy;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import org.projectplatformer.EnemiesAnimation.EnemyAnimationRegistry;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.player.Player;
+import org.projectplatformer.weapon.Projectile;
 
-import java.util.List;
-import java.util.ArrayList;
 
 public class Witch extends BaseEnemy {
+    /** Спрайт фаєрболу в атласі / assets (без .png) */
+    public static final String FIREBALL_SPRITE = "Enemies/fireball";
+
     private static final float FLY_SPEED         = 100f;
     private static final float CHASE_SPEED       = 180f;
     private static final float HOVER_HEIGHT      = 64f;  // px над платформою
@@ -17,18 +20,26 @@ public class Witch extends BaseEnemy {
     private static final float FIREBALL_COOLDOWN = 2.0f;
     private static final int   FIREBALL_DAMAGE   = 20;
 
+    private static final float FIREBALL_SPEED     = 260f;
+    private static final float FIREBALL_SIZE      = 14f;
+    private static final float FIREBALL_RANGE     = 1200f;
+
+    // Спрайт фаєрболу спільний для всіх відьом; ним володіє EnemyAnimationRegistry
+    private final TextureRegion fireballTex;
+
+    // Фаєрболи летять і влучають у ProjectileSystem світу
     private float fireballTimer = 0f;
-    private final List<Fireball> fireballs = new ArrayList<>();
 
     public Witch(float x, float y, Texture tex) {
         super(x, y, 48, 56, tex, 200, 0, 0, 0, 0, 0); // no gravity, drag, step
         this.attackRange = 48f; // хітбокс торкання відьми
         this.attackDamage = 24;
         this.attackCooldown = 1.2f; // якщо гравець торкається відьми
+        this.fireballTex = EnemyAnimationRegistry.sprite(FIREBALL_SPRITE);
     }
 
     @Override
-    protected void aiMove(float delta, Player player, List<Rectangle> platforms) {
+    protected void aiMove(float delta, Player player, CollisionMap platforms) {
         if (!alive) return;
 
         // Hover logic (парити)
@@ -54,92 +65,26 @@ public class Witch extends BaseEnemy {
 
             // Стріляти фаєрболом якщо cooldown
             fireballTimer -= delta;
-            if (fireballTimer <= 0f) {
-                fireballs.add(new Fireball(cx, cy, dx, dy));
+            if (fireballTimer <= 0f && projectiles != null) {
+                spawnFireball(cx, cy, dx, dy);
                 fireballTimer = FIREBALL_COOLDOWN;
             }
         } else {
-            // Просто вільно літає (рандомна "плавність" або патруль)
-            physics.setVelocityX((float)Math.sin(System.currentTimeMillis() * 0.001) * FLY_SPEED);
-            physics.setVelocityY((float)Math.cos(System.currentTimeMillis() * 0.0007) * FLY_SPEED);
-        }
-
-        // Оновити фаєрболи
-        for (int i = fireballs.size() - 1; i >= 0; i--) {
-            Fireball fb = fireballs.get(i);
-            fb.update(delta);
-            if (fb.getBounds().overlaps(player.getBounds())) {
-                player.takeDamage(FIREBALL_DAMAGE);
-                fireballs.remove(i);
-            } else if (fb.isOffscreen()) {
-                fireballs.remove(i);
-            }
+            // Просто вільно літає (рандомна "плавність" або патруль) — за часом симуляції
+            double t = clock.getTime();
+            physics.setVelocityX((float)Math.sin(t) * FLY_SPEED);
+            physics.setVelocityY((float)Math.cos(t * 0.7) * FLY_SPEED);
         }
     }
 
-    @Override
-    public void render(SpriteBatch batch) {
-        super.render(batch);
-        for (Fireball fb : fireballs) fb.render(batch);
-    }
-
-    @Override
-    public void renderHitbox(ShapeRenderer r) {
-        super.renderHitbox(r);
-        for (Fireball fb : fireballs) fb.renderHitbox(r);
-    }
-
-    @Override
-    public void dispose() {
-        super.dispose();
-        for (Fireball fb : fireballs) fb.dispose();
-    }
-
-    // --- Внутрішній клас Fireball ---
-    private static class Fireball {
-        private static final float SPEED = 260f;
-        private static final float SIZE  = 14f;
-        private float x, y;
-        private float vx, vy;
-        private Rectangle bounds;
-
-        // Для спрайту фаєрболу:
-        private static final Texture fireballTex = new Texture("fireball.png");
-
-        public Fireball(float startX, float startY, float dx, float dy) {
-            this.x = startX - SIZE/2f;
-            this.y = startY - SIZE/2f;
-            float dist = (float)Math.sqrt(dx*dx + dy*dy);
-            vx = (dx / dist) * SPEED;
-            vy = (dy / dist) * SPEED;
-            bounds = new Rectangle(x, y, SIZE, SIZE);
-        }
-
-        public void update(float delta) {
-            x += vx * delta;
-            y += vy * delta;
-            bounds.setPosition(x, y);
-        }
-
-        public Rectangle getBounds() {
-            return bounds;
-        }
-
-        public boolean isOffscreen() {
-            return x < -SIZE || x > 1600 || y < -SIZE || y > 1000; // залежить від розміру карти
-        }
-
-        public void render(SpriteBatch batch) {
-            batch.draw(fireballTex, x, y, SIZE, SIZE);
-        }
-
-        public void renderHitbox(ShapeRenderer r) {
-            r.setColor(1, 0.5f, 0, 1);
-            r.rect(bounds.x, bounds.y, bounds.width, bounds.height);
-        }
-
-        public void dispose() {
-            fireballTex.dispose();
-        }
+    private void spawnFireball(float startX, float startY, float dx, float dy) {
+        float dist = (float)Math.sqrt(dx*dx + dy*dy);
+        projectiles.spawn(Projectile.Faction.ENEMY,
+            startX - FIREBALL_SIZE/2f, startY - FIREBALL_SIZE/2f,
+            FIREBALL_SIZE, FIREBALL_SIZE,
+            (dx / dist) * FIREBALL_SPEED, (dy / dist) * FIREBALL_SPEED,
+            0f, FIREBALL_DAMAGE, FIREBALL_RANGE, fireballTex,
+            true // спрайт не віддзеркалюємо
+        );
     }
 }
@@ -0,0 +1,209 @@
+package org.projectplatformer.levellogic;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.math.Rectangle;
+import org.projectplatformer.assets.AssetPack;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Скомпільований рівень: усе, що createLevel бере з TMX, у готовому вигляді.
+ * Файли *.lvl збирає задача Gradle {@code :core:compileLevels} ({@link LevelCompiler});
+ * без них TiledLevel будує те саме з TiledMap під час завантаження.
+ *
+ * Формат (big-endian):
+ * <pre>
+ *   int MAGIC, byte VERSION
+ *   int cols, rows; float tileW, tileH
+ *   byte hasSpawn; float spawnX, spawnY
+ *   byte hasGround; byte[(cols*rows+7)/8] тверді клітинки, біт x*rows+y (y = 0 знизу)
+ *   int chunkTiles; int n; n × float x, y, w, h  — злиті прямокутники, кожен у межах свого чанка
+ *   int n; n × float x, y                        — монети
+ *   int n; n × byte type, float x, y             — вороги (LevelChunks.EnemyType.ordinal)
+ * </pre>
+ * Координати — пікселі libGDX (y знизу), як у RectangleMapObject після TmxMapLoader.
+ */
+public final class CompiledLevel {
+    static final int    MAGIC     = 0x53504C56; // "SPLV"
+    static final int    VERSION   = 1;
+    public static final String DIR       = "Levels/Compiled/";
+    public static final String EXTENSION = ".lvl";
+
+    int     cols, rows;
+    float   tileW, tileH;
+    boolean hasSpawn;
+    float   spawnX, spawnY;
+    boolean[][] solid;   // null — у карті немає шару "ground"
+    int     chunkTiles = LevelChunks.CHUNK_TILES;
+    float[] solids  = new float[0]; // x, y, w, h
+    float[] coins   = new float[0]; // x, y
+    byte[]  enemyTypes = new byte[0];
+    float[] enemies = new float[0]; // x, y
+
+    /** Шлях скомпільованого файлу для карти: Levels/Maps/Level1.tmx → Levels/Compiled/Level1.lvl */
+    public static String pathFor(String mapPath) {
+        String name = mapPath.substring(mapPath.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        return DIR + (dot < 0 ? name : name.substring(0, dot)) + EXTENSION;
+    }
+
+    /**
+     * Скомпільований рівень для карти або null, якщо файлу немає, він пошкоджений,
+     * з іншої версії формату / іншого розміру чанків або не відповідає завантаженій
+     * карті (TMX змінили без перезбирання) — тоді рівень будується з TMX.
+     */
+    public static CompiledLevel find(String mapPath, TiledMap map) {
+        FileHandle file = AssetPack.internal(pathFor(mapPath));
+        if (!file.exists()) return null;
+        try {
+            // Обидва файли на диску (не з паку й не з jar) — TMX не новіший за .lvl
+            FileHandle tmx = AssetPack.internal(mapPath);
+            if (file.lastModified() > 0L && tmx.lastModified() > file.lastModified()) {
+                throw new IOException("older than " + mapPath);
+            }
+            // З паку — зріз буфера паку без копіювання, інакше один read усього файлу
+            CompiledLevel lvl = read(AssetPack.buffer(file));
+            MapProperties props = map.getProperties();
+            if (lvl.cols != props.get("width", Integer.class) || lvl.rows != props.get("height", Integer.class)
+                || lvl.tileW != props.get("tilewidth", Integer.class) || lvl.tileH != props.get("tileheight", Integer.class)) {
+                throw new IOException("map size differs from " + mapPath);
+            }
+            return lvl;
+        } catch (IOException | BufferUnderflowException e) {
+            Gdx.app.error("CompiledLevel", file.path() + ": " + e.getMessage() + ", falling back to TMX");
+            return null;
+        }
+    }
+
+    static CompiledLevel read(ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC) throw new IOException("not a compiled level");
+        int version = in.get() & 0xFF;
+        if (version != VERSION) throw new IOException("unsupported version " + version);
+
+        CompiledLevel lvl = new CompiledLevel();
+        lvl.cols  = in.getInt();
+        lvl.rows  = in.getInt();
+        if (lvl.cols <= 0 || lvl.rows <= 0) throw new IOException("bad map size " + lvl.cols + "x" + lvl.rows);
+        lvl.tileW = in.getFloat();
+        lvl.tileH = in.getFloat();
+        lvl.hasSpawn = in.get() != 0;
+        lvl.spawnX   = in.getFloat();
+        lvl.spawnY   = in.getFloat();
+
+        if (in.get() != 0) {
+            long cells = (long) lvl.cols * lvl.rows;
+            if (cells > (long) in.remaining() * 8) throw new IOException("truncated ground layer");
+            byte[] bits = new byte[(int) ((cells + 7) / 8)];
+            in.get(bits);
+            lvl.solid = new boolean[lvl.cols][lvl.rows];
+            for (int x = 0; x < lvl.cols; x++) {
+                for (int y = 0; y < lvl.rows; y++) {
+                    int i = x * lvl.rows + y;
+                    lvl.solid[x][y] = (bits[i >> 3] & (1 << (i & 7))) != 0;
+                }
+            }
+        }
+
+        lvl.chunkTiles = in.getInt();
+        if (lvl.chunkTiles != LevelChunks.CHUNK_TILES) {
+            throw new IOException("compiled for " + lvl.chunkTiles + "-tile chunks");
+        }
+        lvl.solids = readFloats(in, 4);
+        lvl.coins  = readFloats(in, 2);
+
+        int n = count(in, 1 + 2 * 4);
+        lvl.enemyTypes = new byte[n];
+        lvl.enemies    = new float[n * 2];
+        int types = LevelChunks.EnemyType.values().length;
+        for (int i = 0; i < n; i++) {
+            lvl.enemyTypes[i] = in.get();
+            if (lvl.enemyTypes[i] < 0 || lvl.enemyTypes[i] >= types) throw new IOException("bad enemy type");
+            lvl.enemies[i * 2]     = in.getFloat();
+            lvl.enemies[i * 2 + 1] = in.getFloat();
+        }
+        return lvl;
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(cols);
+        out.writeInt(rows);
+        out.writeFloat(tileW);
+        out.writeFloat(tileH);
+        out.writeByte(hasSpawn ? 1 : 0);
+        out.writeFloat(spawnX);
+        out.writeFloat(spawnY);
+
+        out.writeByte(solid != null ? 1 : 0);
+        if (solid != null) {
+            byte[] bits = new byte[(cols * rows + 7) / 8];
+            for (int x = 0; x < cols; x++) {
+                for (int y = 0; y < rows; y++) {
+                    int i = x * rows + y;
+                    if (solid[x][y]) bits[i >> 3] |= 1 << (i & 7);
+                }
+            }
+            out.write(bits);
+        }
+
+        out.writeInt(chunkTiles);
+        writeFloats(out, solids, 4);
+        writeFloats(out, coins, 2);
+        out.writeInt(enemyTypes.length);
+        for (int i = 0; i < enemyTypes.length; i++) {
+            out.writeByte(enemyTypes[i]);
+            out.writeFloat(enemies[i * 2]);
+            out.writeFloat(enemies[i * 2 + 1]);
+        }
+    }
+
+    /** Кількість твердих клітинок до злиття (0 — шару "ground" немає) */
+    int solidCells() {
+        if (solid == null) return 0;
+        int n = 0;
+        for (boolean[] column : solid) {
+            for (boolean cell : column) if (cell) n++;
+        }
+        return n;
+    }
+
+    /** Тверді клітинки, злиті по чанках — той самий результат, що й у LevelChunks */
+    void mergeSolids() {
+        if (solid == null) return;
+        List<Rectangle> merged = LevelChunks.mergeByChunk(solid, tileW, tileH);
+        solids = new float[merged.size() * 4];
+        for (int i = 0; i < merged.size(); i++) {
+            Rectangle r = merged.get(i);
+            solids[i * 4]     = r.x;
+            solids[i * 4 + 1] = r.y;
+            solids[i * 4 + 2] = r.width;
+            solids[i * 4 + 3] = r.height;
+        }
+    }
+
+    private static float[] readFloats(ByteBuffer in, int stride) throws IOException {
+        float[] values = new float[count(in, stride * 4) * stride];
+        for (int i = 0; i < values.length; i++) values[i] = in.getFloat();
+        return values;
+    }
+
+    /** Кількість записів по bytesEach байтів; пошкоджена (від'ємна чи більша за залишок) — IOException */
+    private static int count(ByteBuffer in, int bytesEach) throws IOException {
+        int n = in.getInt();
+        if (n < 0 || n > in.remaining() / bytesEach) throw new IOException("bad record count " + n);
+        return n;
+    }
+
+    private static void writeFloats(DataOutputStream out, float[] values, int stride) throws IOException {
+        out.writeInt(values.length / stride);
+        for (float v : values) out.writeFloat(v);
+    }
+}
@@ -0,0 +1,324 @@
+package org.projectplatformer.levellogic;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.enemy.Goblin;
+import org.projectplatformer.enemy.Skeleton;
+import org.projectplatformer.enemy.Spider;
+import org.projectplatformer.objectslogic.Coin;
+import org.projectplatformer.objectslogic.Platform;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.physics.CollisionGrid;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Рівень, поділений на чанки по {@link #CHUNK_TILES}×{@link #CHUNK_TILES} тайлів.
+ *
+ * Для кожного чанка зберігається лише опис: злиті тверді прямокутники,
+ * позиції монет і таблиця спавну ворогів. Живі Platform, Coin і вороги
+ * є у світі тільки для чанків біля області активності ({@link #update});
+ * далекі чанки звільняються, але пам'ятають зібрані монети й убитих ворогів.
+ * Робота за крок залежить від кількості завантажених чанків, а не від розміру карти.
+ *
+ * У режимі RECTANGLES сітка колізій перебудовується з платформ завантажених
+ * чанків після кожної зміни; бітова карта TILE_BITMAP і так займає біт на тайл
+ * і будується для всієї карти один раз, тож у цьому режимі чанки платформ
+ * не зберігають і у світ не додають.
+ */
+public class LevelChunks {
+    public static final int CHUNK_TILES = 16;
+
+    /** Тип ворога зі шару "Enemies"; порядок — частина формату {@link CompiledLevel} */
+    enum EnemyType {
+        GOBLIN("Goblin"), SPIDER("Spider"), SKELETON("Skeleton");
+
+        final String mapName;
+
+        EnemyType(String mapName) { this.mapName = mapName; }
+
+        /** Тип за властивістю "type" об'єкта карти; null — невідомий */
+        static EnemyType fromMap(String type) {
+            for (EnemyType t : values()) {
+                if (t.mapName.equals(type)) return t;
+            }
+            return null;
+        }
+    }
+
+    private static final class CoinSpawn {
+        final float x, y;
+        boolean collected;
+        Coin    live;
+
+        CoinSpawn(float x, float y) { this.x = x; this.y = y; }
+    }
+
+    private static final class EnemySpawn {
+        final EnemyType type;
+        final float     x, y;
+        boolean   killed;
+        BaseEnemy live;
+
+        EnemySpawn(EnemyType type, float x, float y) { this.type = type; this.x = x; this.y = y; }
+    }
+
+    private static final class Chunk {
+        final int col, row;
+        final List<Rectangle>  solids  = new ArrayList<>();
+        final List<CoinSpawn>  coins   = new ArrayList<>();
+        final List<EnemySpawn> enemies = new ArrayList<>();
+        final List<Platform>   platforms = new ArrayList<>();
+        boolean loaded;
+
+        Chunk(int col, int row) { this.col = col; this.row = row; }
+    }
+
+    private final Chunk[][] chunks;
+    private final int   cols, rows;
+    private final float chunkW, chunkH;
+    private final float mapWidth, mapHeight, cellSize;
+    private final TiledLevel.CollisionMode collisionMode;
+    private final Texture defaultTex;
+    private final Animation<TextureRegion> coinIdle, coinCollect;
+
+    private final List<Chunk>      loaded = new ArrayList<>();
+    // Вороги, що пішли зі свого вивантаженого чанка, але ще в зоні — живуть, поки не вийдуть з неї
+    private final List<EnemySpawn> strays = new ArrayList<>();
+    private final Rectangle keep = new Rectangle();
+    private int platformCount, coinCount, enemyCount;
+    private int gridVersion = -1; // World.getPlatformVersion, з якої зібрано сітку RECTANGLES
+
+    LevelChunks(int mapCols, int mapRows, float tileW, float tileH, float cellSize,
+                TiledLevel.CollisionMode collisionMode, Texture defaultTex, Texture coinTex) {
+        this.cols          = Math.max(1, (mapCols + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.rows          = Math.max(1, (mapRows + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.chunkW        = CHUNK_TILES * tileW;
+        this.chunkH        = CHUNK_TILES * tileH;
+        this.mapWidth      = mapCols * tileW;
+        this.mapHeight     = mapRows * tileH;
+        this.cellSize      = cellSize;
+        this.collisionMode = collisionMode;
+        this.defaultTex    = defaultTex;
+        this.chunks        = new Chunk[cols][rows];
+        for (int c = 0; c < cols; c++) {
+            for (int r = 0; r < rows; r++) chunks[c][r] = new Chunk(c, r);
+        }
+
+        // Анімації монет спільні для всіх монет рівня
+        Array<TextureRegion> frames = new Array<>();
+        frames.add(new TextureRegion(coinTex));
+        coinIdle    = new Animation<>(0.2f, frames, Animation.PlayMode.LOOP);
+        coinCollect = new Animation<>(0.1f, frames, Animation.PlayMode.NORMAL);
+    }
+
+    /**
+     * Злиття твердих клітинок окремо в межах кожного чанка: прямокутник
+     * ніколи не перетинає межу чанка, тож чанк можна завантажити сам по собі.
+     */
+    static List<Rectangle> mergeByChunk(boolean[][] solid, float tileW, float tileH) {
+        List<Rectangle> out = new ArrayList<>();
+        int mapCols = solid.length;
+        int mapRows = mapCols == 0 ? 0 : solid[0].length;
+        for (int x0 = 0; x0 < mapCols; x0 += CHUNK_TILES) {
+            for (int y0 = 0; y0 < mapRows; y0 += CHUNK_TILES) {
+                int w = Math.min(CHUNK_TILES, mapCols - x0), h = Math.min(CHUNK_TILES, mapRows - y0);
+                boolean[][] part = new boolean[w][h];
+                for (int x = 0; x < w; x++) System.arraycopy(solid[x0 + x], y0, part[x], 0, h);
+                for (Rectangle rect : SolidMerger.merge(part, tileW, tileH)) {
+                    rect.x += x0 * tileW;
+                    rect.y += y0 * tileH;
+                    out.add(rect);
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Злитий прямокутник з {@link #mergeByChunk}; чанк — за його центром */
+    void addSolid(float x, float y, float w, float h) {
+        if (collisionMode == TiledLevel.CollisionMode.RECTANGLES) {
+            chunkAt(x + w / 2f, y + h / 2f).solids.add(new Rectangle(x, y, w, h));
+        }
+        platformCount++;
+    }
+
+    void addCoin(float x, float y) {
+        chunkAt(x, y).coins.add(new CoinSpawn(x, y));
+        coinCount++;
+    }
+
+    void addEnemy(EnemyType type, float x, float y) {
+        chunkAt(x, y).enemies.add(new EnemySpawn(type, x, y));
+        enemyCount++;
+    }
+
+    public int getPlatformCount() { return platformCount; }
+    public int getCoinCount()     { return coinCount; }
+    public int getEnemyCount()    { return enemyCount; }
+    public int getLoadedCount()   { return loaded.size(); }
+
+    /**
+     * Підвантажити чанки, що перетинають region (область активності світу),
+     * і звільнити ті, що відійшли від неї далі ніж на чанк (запас проти «мигання» на межі).
+     */
+    public void update(World world, Rectangle region) {
+        keep.set(region.x - chunkW, region.y - chunkH, region.width + 2f * chunkW, region.height + 2f * chunkH);
+
+        // 1) Звільнити далекі
+        Iterator<Chunk> it = loaded.iterator();
+        while (it.hasNext()) {
+            Chunk ch = it.next();
+            if (!overlaps(ch, keep)) {
+                unload(world, ch);
+                it.remove();
+            }
+        }
+        Iterator<EnemySpawn> si = strays.iterator();
+        while (si.hasNext()) {
+            EnemySpawn s = si.next();
+            if (releaseEnemy(world, s)) si.remove();
+        }
+
+        // 2) Підвантажити ті, що в області
+        int c0 = clampCol(region.x), c1 = clampCol(region.x + region.width);
+        int r0 = clampRow(region.y), r1 = clampRow(region.y + region.height);
+        for (int c = c0; c <= c1; c++) {
+            for (int r = r0; r <= r1; r++) {
+                Chunk ch = chunks[c][r];
+                if (!ch.loaded) {
+                    load(world, ch);
+                    loaded.add(ch);
+                }
+            }
+        }
+
+        // Сітка застаріла лише тоді, коли змінився набір платформ (чанк без платформ її не чіпає)
+        if (collisionMode == TiledLevel.CollisionMode.RECTANGLES && world.getPlatformVersion() != gridVersion) {
+            world.setCollisionMap(new CollisionGrid(world.getPlatformBounds(), cellSize, mapWidth, mapHeight));
+            gridVersion = world.getPlatformVersion();
+        }
+    }
+
+    /**
+     * Рівень як після завантаження: усі об'єкти чанків прибираються зі світу,
+     * зібрані монети й убиті вороги повертаються. Таблиці спавну — і є знімок
+     * початкового стану, тож карта, текстури й рендер не чіпаються.
+     * Після цього чанки біля гравця підвантажує наступний {@link #update}.
+     */
+    public void reset(World world) {
+        for (Chunk ch : loaded) {
+            ch.loaded = false;
+            for (Platform p : ch.platforms) world.removeObject(p);
+            ch.platforms.clear();
+        }
+        loaded.clear();
+        strays.clear();
+        for (Chunk[] column : chunks) {
+            for (Chunk ch : column) {
+                for (CoinSpawn s : ch.coins) {
+                    if (s.live != null) world.removeObject(s.live);
+                    s.live      = null;
+                    s.collected = false;
+                }
+                for (EnemySpawn s : ch.enemies) {
+                    // Мертвого світ уже звільнив, якщо встиг прибрати
+                    if (s.live != null && world.removeEnemy(s.live)) s.live.dispose();
+                    s.live   = null;
+                    s.killed = false;
+                }
+            }
+        }
+        if (collisionMode == TiledLevel.CollisionMode.RECTANGLES) {
+            world.setCollisionMap(CollisionGrid.empty());
+            gridVersion = world.getPlatformVersion();
+        }
+    }
+
+    private void load(World world, Chunk ch) {
+        ch.loaded = true;
+        // Порожньо поза RECTANGLES: там колізії дає TileCollisionMap
+        for (Rectangle r : ch.solids) {
+            Platform p = new Platform(r.x, r.y, r.width, r.height, defaultTex);
+            ch.platforms.add(p);
+            world.addObject(p);
+        }
+        for (CoinSpawn s : ch.coins) {
+            if (s.collected) continue;
+            s.live = new Coin(s.x, s.y, coinIdle, coinCollect);
+            world.addObject(s.live);
+        }
+        for (EnemySpawn s : ch.enemies) {
+            if (s.live != null) {
+                // Ворог ще бродить поза своїм чанком — не дублюємо
+                if (s.live.isAlive()) { strays.remove(s); continue; }
+                s.killed = true;
+                s.live   = null;
+            }
+            if (s.killed) continue;
+            s.live = createEnemy(s);
+            world.addEnemy(s.live);
+        }
+    }
+
+    private void unload(World world, Chunk ch) {
+        ch.loaded = false;
+        for (Platform p : ch.platforms) world.removeObject(p);
+        ch.platforms.clear();
+        for (CoinSpawn s : ch.coins) {
+            if (s.live == null) continue;
+            if (s.live.isCollected()) s.collected = true;
+            world.removeObject(s.live);
+            s.live = null;
+        }
+        for (EnemySpawn s : ch.enemies) {
+            if (s.live != null && !releaseEnemy(world, s)) strays.add(s);
+        }
+    }
+
+    /** Прибрати ворога зі світу, якщо він мертвий або поза зоною; false — лишається жити */
+    private boolean releaseEnemy(World world, EnemySpawn s) {
+        if (!s.live.isAlive()) {
+            s.killed = true;
+        } else if (!keep.overlaps(s.live.getBounds())) {
+            world.removeEnemy(s.live);
+            s.live.dispose();
+        } else {
+            return false;
+        }
+        s.live = null;
+        return true;
+    }
+
+    private static BaseEnemy createEnemy(EnemySpawn s) {
+        switch (s.type) {
+            case GOBLIN: return new Goblin(s.x, s.y);
+            case SPIDER: return new Spider(s.x, s.y);
+            default:     return new Skeleton(s.x, s.y);
+        }
+    }
+
+    private boolean overlaps(Chunk ch, Rectangle area) {
+        float x = ch.col * chunkW, y = ch.row * chunkH;
+        return x < area.x + area.width && x + chunkW > area.x
+            && y < area.y + area.height && y + chunkH > area.y;
+    }
+
+    private Chunk chunkAt(float x, float y) {
+        return chunks[clampCol(x)][clampRow(y)];
+    }
+
+    private int clampCol(float x) {
+        return Math.max(0, Math.min(cols - 1, (int) Math.floor(x / chunkW)));
+    }
+
+    private int clampRow(float y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor(y / chunkH)));
+    }
+}
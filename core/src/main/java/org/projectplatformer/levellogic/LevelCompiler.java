@@ -0,0 +1,219 @@
+package org.projectplatformer.levellogic;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Компілятор TMX → {@link CompiledLevel} для задачі Gradle {@code :core:compileLevels}.
+ * Аргументи: [папка з *.tmx] [папка для *.lvl].
+ *
+ * Читає XML без libGDX (тайлсети й текстури не потрібні) і повторює правила
+ * TmxMapLoader: y об'єктів перевертається (y = 0 знизу), властивість "type"
+ * перекриває атрибут type/class, враховуються лише прямокутні об'єкти.
+ * Карту, яку не вдалося скомпілювати, пропускаємо — гра збере її з TMX сама.
+ */
+public final class LevelCompiler {
+    private LevelCompiler() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("usage: LevelCompiler <maps dir> <output dir>");
+            System.exit(2);
+        }
+        File mapsDir = new File(args[0]);
+        File outDir  = new File(args[1]);
+        if (!outDir.isDirectory() && !outDir.mkdirs()) throw new IOException("cannot create " + outDir);
+
+        // Старі *.lvl прибираємо, щоб видалена карта не лишила по собі файл
+        File[] stale = outDir.listFiles((dir, name) -> name.endsWith(CompiledLevel.EXTENSION));
+        if (stale != null) {
+            for (File f : stale) f.delete();
+        }
+
+        File[] maps = mapsDir.listFiles((dir, name) -> name.endsWith(".tmx"));
+        if (maps == null) throw new IOException("no such directory " + mapsDir);
+        for (File tmx : maps) {
+            String name = tmx.getName().substring(0, tmx.getName().length() - ".tmx".length());
+            File out = new File(outDir, name + CompiledLevel.EXTENSION);
+            try {
+                CompiledLevel lvl = compile(tmx);
+                try (DataOutputStream dos = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(out)))) {
+                    lvl.write(dos);
+                }
+                System.out.println(tmx.getName() + " -> " + out.getName() + " (" + out.length() + " bytes, "
+                    + lvl.solidCells() + " cells -> " + lvl.solids.length / 4 + " solids, "
+                    + lvl.coins.length / 2 + " coins, "
+                    + lvl.enemyTypes.length + " enemies)");
+            } catch (Exception e) {
+                out.delete();
+                System.err.println("skipped " + tmx.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    static CompiledLevel compile(File tmx) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(tmx);
+        Element map = doc.getDocumentElement();
+        if (!"orthogonal".equals(map.getAttribute("orientation"))) {
+            throw new IOException("only orthogonal maps are supported");
+        }
+        if ("1".equals(map.getAttribute("infinite"))) {
+            throw new IOException("infinite maps are not supported");
+        }
+
+        CompiledLevel lvl = new CompiledLevel();
+        lvl.cols  = Integer.parseInt(map.getAttribute("width"));
+        lvl.rows  = Integer.parseInt(map.getAttribute("height"));
+        lvl.tileW = Integer.parseInt(map.getAttribute("tilewidth"));
+        lvl.tileH = Integer.parseInt(map.getAttribute("tileheight"));
+        float mapHeightPx = lvl.rows * lvl.tileH;
+
+        // Шари верхнього рівня в порядку карти, як map.getLayers()
+        List<Element> layers = new ArrayList<>();
+        for (Node n = map.getFirstChild(); n != null; n = n.getNextSibling()) {
+            if (n instanceof Element) {
+                String tag = n.getNodeName();
+                if ("layer".equals(tag) || "objectgroup".equals(tag)) layers.add((Element) n);
+            }
+        }
+
+        // Спавн: спершу шар "Spawn", потім будь-який шар
+        Element spawn = findSpawn(layerNamed(layers, "Spawn"));
+        for (int i = 0; spawn == null && i < layers.size(); i++) spawn = findSpawn(layers.get(i));
+        if (spawn != null) {
+            float[] r = rect(spawn, mapHeightPx);
+            lvl.hasSpawn = true;
+            lvl.spawnX   = r[0];
+            lvl.spawnY   = r[1];
+        }
+
+        Element ground = layerNamed(layers, "ground");
+        if (ground != null && "layer".equals(ground.getNodeName())) {
+            lvl.solid = readSolids(ground, lvl.cols, lvl.rows);
+            lvl.mergeSolids();
+        }
+
+        List<float[]> coins = rects(layerNamed(layers, "Coins"), mapHeightPx);
+        lvl.coins = new float[coins.size() * 2];
+        for (int i = 0; i < coins.size(); i++) {
+            lvl.coins[i * 2]     = coins.get(i)[0];
+            lvl.coins[i * 2 + 1] = coins.get(i)[1];
+        }
+
+        List<LevelChunks.EnemyType> types = new ArrayList<>();
+        List<float[]> positions = new ArrayList<>();
+        Element enemiesLayer = layerNamed(layers, "Enemies");
+        for (Element obj : rectObjects(enemiesLayer)) {
+            LevelChunks.EnemyType type = LevelChunks.EnemyType.fromMap(type(obj));
+            if (type == null) continue;
+            types.add(type);
+            positions.add(rect(obj, mapHeightPx));
+        }
+        lvl.enemyTypes = new byte[types.size()];
+        lvl.enemies    = new float[types.size() * 2];
+        for (int i = 0; i < types.size(); i++) {
+            lvl.enemyTypes[i]      = (byte) types.get(i).ordinal();
+            lvl.enemies[i * 2]     = positions.get(i)[0];
+            lvl.enemies[i * 2 + 1] = positions.get(i)[1];
+        }
+        return lvl;
+    }
+
+    /** CSV-дані тайлового шару → solid[x][y], y = 0 знизу (рядки TMX ідуть згори) */
+    private static boolean[][] readSolids(Element layer, int cols, int rows) throws IOException {
+        Element data = (Element) layer.getElementsByTagName("data").item(0);
+        if (data == null || !"csv".equals(data.getAttribute("encoding"))) {
+            throw new IOException("ground layer must use CSV encoding");
+        }
+        int w = Integer.parseInt(layer.getAttribute("width"));
+        int h = Integer.parseInt(layer.getAttribute("height"));
+        String[] cells = data.getTextContent().trim().split("\\s*,\\s*");
+        if (cells.length != w * h) throw new IOException("ground layer has " + cells.length + " cells, expected " + w * h);
+
+        boolean[][] solid = new boolean[cols][rows];
+        for (int row = 0; row < h; row++) {
+            for (int x = 0; x < w; x++) {
+                int y = h - 1 - row;
+                if (x < cols && y < rows && Long.parseLong(cells[row * w + x]) != 0L) solid[x][y] = true;
+            }
+        }
+        return solid;
+    }
+
+    private static Element layerNamed(List<Element> layers, String name) {
+        for (Element l : layers) {
+            if (name.equals(l.getAttribute("name"))) return l;
+        }
+        return null;
+    }
+
+    private static Element findSpawn(Element layer) {
+        for (Element obj : rectObjects(layer)) {
+            if ("PlayerSpawn".equals(obj.getAttribute("name"))) return obj;
+        }
+        return null;
+    }
+
+    private static List<float[]> rects(Element layer, float mapHeightPx) {
+        List<float[]> out = new ArrayList<>();
+        for (Element obj : rectObjects(layer)) out.add(rect(obj, mapHeightPx));
+        return out;
+    }
+
+    /** Прямокутні об'єкти шару: без gid (тайл-об'єкти) і без еліпсів, точок, полігонів, тексту */
+    private static List<Element> rectObjects(Element layer) {
+        List<Element> out = new ArrayList<>();
+        if (layer == null || !"objectgroup".equals(layer.getNodeName())) return out;
+        NodeList objects = layer.getElementsByTagName("object");
+        for (int i = 0; i < objects.getLength(); i++) {
+            Element obj = (Element) objects.item(i);
+            if (obj.hasAttribute("gid")) continue;
+            boolean shaped = false;
+            for (Node n = obj.getFirstChild(); n != null; n = n.getNextSibling()) {
+                String tag = n.getNodeName();
+                if ("ellipse".equals(tag) || "point".equals(tag) || "polygon".equals(tag)
+                    || "polyline".equals(tag) || "text".equals(tag)) {
+                    shaped = true;
+                    break;
+                }
+            }
+            if (!shaped) out.add(obj);
+        }
+        return out;
+    }
+
+    /** x і y лівого нижнього кута в координатах libGDX */
+    private static float[] rect(Element obj, float mapHeightPx) {
+        float x = attr(obj, "x"), y = attr(obj, "y"), h = attr(obj, "height");
+        return new float[] { x, mapHeightPx - y - h };
+    }
+
+    private static float attr(Element e, String name) {
+        String v = e.getAttribute(name);
+        return v.isEmpty() ? 0f : Float.parseFloat(v);
+    }
+
+    /** Властивість "type" або, якщо її немає, атрибут type/class об'єкта */
+    private static String type(Element obj) {
+        NodeList props = obj.getElementsByTagName("property");
+        for (int i = 0; i < props.getLength(); i++) {
+            Element p = (Element) props.item(i);
+            if ("type".equals(p.getAttribute("name"))) return p.getAttribute("value");
+        }
+        if (obj.hasAttribute("type"))  return obj.getAttribute("type");
+        if (obj.hasAttribute("class")) return obj.getAttribute("class");
+        return null;
+    }
+}
@@ -0,0 +1,101 @@
+package org.projectplatformer.levellogic;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Порядок рівнів і фонове завантаження карт через AssetManager.
+ *
+ * Поки грається поточний рівень, наступний за порядком стоїть у черзі:
+ * TmxMapLoader розбирає XML у потоці AssetManager, а {@link #update()} щокадру
+ * дає йому кілька мілісекунд на GL-частину (текстури тайлсетів). Коли карта
+ * готова ({@link #isReady}), перемикання рівня — це лише createLevel за один кадр.
+ *
+ * Стример тримає по одному посиланню на поточну й наступну карту; решту
+ * відпускає через {@link AssetManager#unload}, а той рахує посилання,
+ * тож спільні тайлсети (bush.tsx у Level1 та Shop) живуть, поки потрібні.
+ */
+public class LevelStreamer {
+    public static final String MAPS_PATH = "Levels/Maps/";
+    public static final String SHOP      = MAPS_PATH + "Shop.tmx";
+
+    private static final List<String> ORDER = Collections.unmodifiableList(Arrays.asList(
+        MAPS_PATH + "Level1.tmx",
+        MAPS_PATH + "Level2.tmx",
+        MAPS_PATH + "Level3.tmx",
+        MAPS_PATH + "FinalLevel.tmx"
+    ));
+
+    // Скільки мілісекунд кадру віддаємо AssetManager на фонове завантаження
+    private static final int UPDATE_BUDGET_MS = 4;
+
+    private final AssetManager assets;
+    private final Set<String>  requested = new HashSet<>(); // карти, на які ми тримаємо посилання
+    private String current;
+
+    public LevelStreamer(AssetManager assets) {
+        this.assets = assets;
+        assets.setLoader(TiledMap.class, new TmxMapLoader(assets.getFileHandleResolver()));
+    }
+
+    /** Рівні по порядку проходження (без магазину) */
+    public List<String> getOrder() { return ORDER; }
+
+    public String getFirst() { return ORDER.get(0); }
+
+    public String getCurrent() { return current; }
+
+    /** Рівень після path; після останнього і з магазину — перший */
+    public String next(String path) {
+        int idx = ORDER.indexOf(path);
+        return ORDER.get((idx + 1) % ORDER.size());
+    }
+
+    public boolean isKnown(String path) {
+        return ORDER.contains(path) || SHOP.equals(path);
+    }
+
+    /** Поставити карту в чергу фонового завантаження (повторний виклик нічого не робить) */
+    public void preload(String path) {
+        if (requested.add(path)) assets.load(path, TiledMap.class);
+    }
+
+    /** Карта завантажена й перемикання на неї не блокує кадр */
+    public boolean isReady(String path) {
+        return requested.contains(path) && assets.isLoaded(path, TiledMap.class);
+    }
+
+    /** Крок фонового завантаження; викликати щокадру */
+    public void update() {
+        assets.update(UPDATE_BUDGET_MS);
+    }
+
+    /**
+     * Зробити path поточним рівнем. Якщо карта ще не готова — дочекатися її
+     * (перший запуск, повтор запису). Далі в черзі лишається тільки наступний
+     * рівень, решта карт відпускається. Викликати, коли старий TiledLevel уже звільнено.
+     */
+    public TiledMap activate(String path) {
+        preload(path);
+        if (!assets.isLoaded(path, TiledMap.class)) assets.finishLoadingAsset(path);
+        current = path;
+        String upcoming = next(path);
+        for (String held : new ArrayList<>(requested)) {
+            if (!held.equals(path) && !held.equals(upcoming)) release(held);
+        }
+        preload(upcoming);
+        return assets.get(path, TiledMap.class);
+    }
+
+    private void release(String path) {
+        if (requested.remove(path)) assets.unload(path);
+    }
+}
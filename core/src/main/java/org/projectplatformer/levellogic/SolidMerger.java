@@ -0,0 +1,66 @@
+package org.projectplatformer.levellogic;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Жадібне злиття твердих клітинок тайлової сітки у мінімум прямокутників.
+ * Спочатку кожен рядок ріжеться на горизонтальні смуги суцільних клітинок,
+ * потім смуги з однаковими межами по X у сусідніх рядках зливаються вгору.
+ */
+public final class SolidMerger {
+    private SolidMerger() {}
+
+    /**
+     * @param solid  solid[x][y] — чи є у клітинці тверда плитка (y = 0 знизу)
+     * @param tileW  ширина тайла в пікселях
+     * @param tileH  висота тайла в пікселях
+     * @return прямокутники в пікселях, відсортовані за X, потім за Y
+     */
+    public static List<Rectangle> merge(boolean[][] solid, float tileW, float tileH) {
+        int width  = solid.length;
+        int height = width == 0 ? 0 : solid[0].length;
+
+        // Відкриті смуги попереднього рядка: для кожного стартового X —
+        // ширина смуги та індекс прямокутника, який ще можна подовжити вгору
+        int[] openWidth = new int[width];
+        int[] openRect  = new int[width];
+        int[] rowWidth  = new int[width];
+        int[] rowRect   = new int[width];
+        List<int[]> rects = new ArrayList<>(); // {x, y, w, h} у тайлах
+
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(rowWidth, 0);
+            int x = 0;
+            while (x < width) {
+                if (!solid[x][y]) { x++; continue; }
+                int start = x;
+                while (x < width && solid[x][y]) x++;
+                int w = x - start;
+
+                rowWidth[start] = w;
+                if (openWidth[start] == w) {
+                    // Та сама смуга, що й рядком нижче — подовжуємо прямокутник
+                    int idx = openRect[start];
+                    rects.get(idx)[3]++;
+                    rowRect[start] = idx;
+                } else {
+                    rects.add(new int[]{start, y, w, 1});
+                    rowRect[start] = rects.size() - 1;
+                }
+            }
+            int[] tmpW = openWidth; openWidth = rowWidth; rowWidth = tmpW;
+            int[] tmpR = openRect;  openRect  = rowRect;  rowRect  = tmpR;
+        }
+
+        rects.sort((a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+        List<Rectangle> out = new ArrayList<>(rects.size());
+        for (int[] r : rects) {
+            out.add(new Rectangle(r[0] * tileW, r[1] * tileH, r[2] * tileW, r[3] * tileH));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,262 @@
+package org.projectplatformer.levellogic;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapGroupLayer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Статичні тайлові шари, один раз «запечені» у {@link SpriteCache}.
+ * Кожен шар ріжеться на чанки CHUNK_TILES x CHUNK_TILES; за кадр малюються
+ * лише видимі чанки — по одному виклику на чанк, без перебудови вершин.
+ *
+ * Шари, які не можна закешувати (анімовані тайли, паралакс, image- та group-шари),
+ * малює звичайний {@link OrthogonalTiledMapRenderer} у тому ж порядку.
+ */
+public class StaticTileCache implements Disposable {
+    public static final int CHUNK_TILES = 16;
+
+    // Індекси вершин спрайта (x, y, color, u, v) x 4 — як у SpriteBatch
+    private static final int X1 = 0,  Y1 = 1,  C1 = 2,  U1 = 3,  V1 = 4;
+    private static final int X2 = 5,  Y2 = 6,  C2 = 7,  U2 = 8,  V2 = 9;
+    private static final int X3 = 10, Y3 = 11, C3 = 12, U3 = 13, V3 = 14;
+    private static final int X4 = 15, Y4 = 16, C4 = 17, U4 = 18, V4 = 19;
+    private static final int VERTEX_SIZE = 5;
+    // Кеш без індексів чекає два трикутники (6 вершин) на спрайт: 1-2-3 і 3-4-1
+    private static final int[] TRIANGLE_CORNERS = { 0, 1, 2, 2, 3, 0 };
+
+    private final OrthogonalTiledMapRenderer fallback;
+    private final MapLayers layers;
+    private final SpriteCache cache;
+
+    // Для кожного шару карти: id кешів чанків (-1 — порожній чанок) або null,
+    // якщо шар малюється fallback-рендерером
+    private final int[][] chunkIds;
+    private final int[]   layerCols, layerRows;
+    private final float[] chunkW, chunkH;
+    private final int[]   single = new int[1];
+    private final float[] triangles = new float[TRIANGLE_CORNERS.length * VERTEX_SIZE];
+    private int renderCalls; // за останній render
+
+    public StaticTileCache(TiledMap map, OrthogonalTiledMapRenderer fallback) {
+        this.fallback = fallback;
+        this.layers   = map.getLayers();
+        int n = layers.getCount();
+        chunkIds  = new int[n][];
+        layerCols = new int[n];
+        layerRows = new int[n];
+        chunkW    = new float[n];
+        chunkH    = new float[n];
+
+        // 1) Рахуємо клітинки, щоб виділити кеш одним шматком
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            MapLayer layer = layers.get(i);
+            if (isCacheable(layer)) total += countCells((TiledMapTileLayer) layer);
+        }
+        // Без індексів: з ними один кеш вміщує лише 8191 спрайт
+        cache = new SpriteCache(Math.max(1, total), false);
+
+        // 2) Запікаємо кожен шар по чанках
+        float[] vertices = new float[20];
+        for (int i = 0; i < n; i++) {
+            MapLayer layer = layers.get(i);
+            if (!isCacheable(layer)) continue;
+            TiledMapTileLayer tl = (TiledMapTileLayer) layer;
+            int cols = (tl.getWidth()  + CHUNK_TILES - 1) / CHUNK_TILES;
+            int rows = (tl.getHeight() + CHUNK_TILES - 1) / CHUNK_TILES;
+            layerCols[i] = cols;
+            layerRows[i] = rows;
+            chunkW[i]    = CHUNK_TILES * tl.getTileWidth();
+            chunkH[i]    = CHUNK_TILES * tl.getTileHeight();
+            chunkIds[i]  = new int[cols * rows];
+            float color  = Color.toFloatBits(1f, 1f, 1f, tl.getOpacity());
+            for (int cy = 0; cy < rows; cy++) {
+                for (int cx = 0; cx < cols; cx++) {
+                    chunkIds[i][cy * cols + cx] = bakeChunk(tl, cx, cy, color, vertices);
+                }
+            }
+        }
+    }
+
+    /** Малює всі видимі шари: закешовані — чанками, решту — fallback-рендерером */
+    public void render(OrthographicCamera cam) {
+        float halfW = cam.viewportWidth  * cam.zoom / 2f;
+        float halfH = cam.viewportHeight * cam.zoom / 2f;
+        float left  = cam.position.x - halfW, right = cam.position.x + halfW;
+        float bottom = cam.position.y - halfH, top  = cam.position.y + halfH;
+
+        renderCalls = 0;
+        boolean caching = false;
+        for (int i = 0; i < chunkIds.length; i++) {
+            MapLayer layer = layers.get(i);
+            if (!layer.isVisible()) continue;
+
+            if (chunkIds[i] == null) {
+                if (!isDrawableByRenderer(layer)) continue;
+                if (caching) { endCache(); caching = false; }
+                fallback.setView(cam);
+                single[0] = i;
+                fallback.render(single);
+                // SpriteBatch обнуляє лічильник у begin() — забираємо після кожного шару
+                Batch batch = fallback.getBatch();
+                if (batch instanceof SpriteBatch) renderCalls += ((SpriteBatch) batch).renderCalls;
+                continue;
+            }
+
+            int cols = layerCols[i], rows = layerRows[i];
+            int cx0 = Math.max(0, (int) Math.floor(left / chunkW[i]));
+            int cx1 = Math.min(cols - 1, (int) Math.floor(right / chunkW[i]));
+            int cy0 = Math.max(0, (int) Math.floor(bottom / chunkH[i]));
+            int cy1 = Math.min(rows - 1, (int) Math.floor(top / chunkH[i]));
+            for (int cy = cy0; cy <= cy1; cy++) {
+                for (int cx = cx0; cx <= cx1; cx++) {
+                    int id = chunkIds[i][cy * cols + cx];
+                    if (id < 0) continue;
+                    if (!caching) {
+                        // SpriteCache сам блендінг не вмикає
+                        Gdx.gl.glEnable(GL20.GL_BLEND);
+                        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+                        cache.setProjectionMatrix(cam.combined);
+                        cache.begin();
+                        caching = true;
+                    }
+                    cache.draw(id);
+                }
+            }
+        }
+        if (caching) endCache();
+    }
+
+    /** Виклики відмальовки за останній {@link #render}: чанки кешу й шари fallback-рендерера */
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+
+    private void endCache() {
+        cache.end();
+        renderCalls += cache.renderCalls; // теж обнуляється в begin()
+    }
+
+    private int bakeChunk(TiledMapTileLayer layer, int chunkX, int chunkY, float color, float[] v) {
+        float tileW = layer.getTileWidth(), tileH = layer.getTileHeight();
+        float offX  = layer.getRenderOffsetX(), offY = -layer.getRenderOffsetY();
+        int col0 = chunkX * CHUNK_TILES, col1 = Math.min(layer.getWidth(),  col0 + CHUNK_TILES);
+        int row0 = chunkY * CHUNK_TILES, row1 = Math.min(layer.getHeight(), row0 + CHUNK_TILES);
+
+        boolean started = false;
+        for (int row = row0; row < row1; row++) {
+            for (int col = col0; col < col1; col++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(col, row);
+                if (cell == null || cell.getTile() == null) continue;
+                if (!started) { cache.beginCache(); started = true; }
+
+                TiledMapTile tile = cell.getTile();
+                TextureRegion region = tile.getTextureRegion();
+                float x1 = col * tileW + tile.getOffsetX() + offX;
+                float y1 = row * tileH + tile.getOffsetY() + offY;
+                float x2 = x1 + region.getRegionWidth();
+                float y2 = y1 + region.getRegionHeight();
+                float u1 = region.getU(),  v1 = region.getV2();
+                float u2 = region.getU2(), v2 = region.getV();
+
+                v[X1] = x1; v[Y1] = y1; v[C1] = color; v[U1] = u1; v[V1] = v1;
+                v[X2] = x1; v[Y2] = y2; v[C2] = color; v[U2] = u1; v[V2] = v2;
+                v[X3] = x2; v[Y3] = y2; v[C3] = color; v[U3] = u2; v[V3] = v2;
+                v[X4] = x2; v[Y4] = y1; v[C4] = color; v[U4] = u2; v[V4] = v1;
+                orient(v, cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+
+                for (int t = 0; t < TRIANGLE_CORNERS.length; t++) {
+                    System.arraycopy(v, TRIANGLE_CORNERS[t] * VERTEX_SIZE, triangles, t * VERTEX_SIZE, VERTEX_SIZE);
+                }
+                cache.add(region.getTexture(), triangles, 0, triangles.length);
+            }
+        }
+        return started ? cache.endCache() : -1;
+    }
+
+    /** Відзеркалення та поворот UV — так само, як у OrthogonalTiledMapRenderer */
+    private static void orient(float[] v, boolean flipX, boolean flipY, int rotations) {
+        float temp;
+        if (flipX) {
+            temp = v[U1]; v[U1] = v[U3]; v[U3] = temp;
+            temp = v[U2]; v[U2] = v[U4]; v[U4] = temp;
+        }
+        if (flipY) {
+            temp = v[V1]; v[V1] = v[V3]; v[V3] = temp;
+            temp = v[V2]; v[V2] = v[V4]; v[V4] = temp;
+        }
+        switch (rotations) {
+            case TiledMapTileLayer.Cell.ROTATE_90: {
+                float tempV = v[V1]; v[V1] = v[V2]; v[V2] = v[V3]; v[V3] = v[V4]; v[V4] = tempV;
+                float tempU = v[U1]; v[U1] = v[U2]; v[U2] = v[U3]; v[U3] = v[U4]; v[U4] = tempU;
+                break;
+            }
+            case TiledMapTileLayer.Cell.ROTATE_180: {
+                temp = v[U1]; v[U1] = v[U3]; v[U3] = temp;
+                temp = v[U2]; v[U2] = v[U4]; v[U4] = temp;
+                temp = v[V1]; v[V1] = v[V3]; v[V3] = temp;
+                temp = v[V2]; v[V2] = v[V4]; v[V4] = temp;
+                break;
+            }
+            case TiledMapTileLayer.Cell.ROTATE_270: {
+                float tempV = v[V1]; v[V1] = v[V4]; v[V4] = v[V3]; v[V3] = v[V2]; v[V2] = tempV;
+                float tempU = v[U1]; v[U1] = v[U4]; v[U4] = v[U3]; v[U3] = v[U2]; v[U2] = tempU;
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /** Тайловий шар без анімацій і паралаксу — його можна запекти */
+    private static boolean isCacheable(MapLayer layer) {
+        if (!(layer instanceof TiledMapTileLayer)) return false;
+        if (layer.getParallaxX() != 1f || layer.getParallaxY() != 1f) return false;
+        TiledMapTileLayer tl = (TiledMapTileLayer) layer;
+        for (int y = 0; y < tl.getHeight(); y++) {
+            for (int x = 0; x < tl.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = tl.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) return false;
+            }
+        }
+        return true;
+    }
+
+    /** Шари об'єктів (спавн, вороги, монети) рендерер і так не малює */
+    private static boolean isDrawableByRenderer(MapLayer layer) {
+        return layer instanceof TiledMapTileLayer
+            || layer instanceof TiledMapImageLayer
+            || layer instanceof MapGroupLayer;
+    }
+
+    private static int countCells(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int y = 0; y < layer.getHeight(); y++) {
+            for (int x = 0; x < layer.getWidth(); x++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void dispose() {
+        cache.dispose();
+    }
+}
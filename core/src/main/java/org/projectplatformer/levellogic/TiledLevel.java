@@ -5,9 +5,6 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.MapProperties;
@@ -16,30 +13,98 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.FloatArray;
 
-import org.projectplatformer.enemy.Skeleton;
+import org.projectplatformer.physics.TileCollisionMap;
 import org.projectplatformer.objectslogic.World;
-import org.projectplatformer.objectslogic.Platform;
 import org.projectplatformer.objectslogic.Item;
-import org.projectplatformer.enemy.Goblin;
-import org.projectplatformer.enemy.Spider;
-import org.projectplatformer.objectslogic.Coin;
+import org.projectplatformer.profiling.GameEvents;
 
 public class TiledLevel extends Level {
+    /** Як будувати колізійну геометрію з шару "ground" */
+    public enum CollisionMode {
+        /** Злиті прямокутники + рівномірна сітка */
+        RECTANGLES,
+        /** Бітова карта твердих клітинок, без списків прямокутників */
+        TILE_BITMAP
+    }
+
     private final TiledMap map;
-    private final OrthogonalTiledMapRenderer renderer;
+    private final SpriteBatch batch;
+    // Рендер створюється з першим кадром — headless-прогін його не чіпає
+    private OrthogonalTiledMapRenderer renderer;
+    private StaticTileCache tileCache; // статичні шари, запечені чанками
     private final Texture defaultTex, coinTex;
+    private final String mapPath;
+    private CollisionMode collisionMode = CollisionMode.TILE_BITMAP;
+    private LevelChunks chunks;
 
     public TiledLevel(AssetManager am, SpriteBatch batch, String mapPath) {
+        this.mapPath  = mapPath;
         this.map      = am.get(mapPath, TiledMap.class);
-        this.renderer = new OrthogonalTiledMapRenderer(map, 1f, batch);
+        this.batch    = batch;
         defaultTex    = am.get("Levels/Images/default.png", Texture.class);
         coinTex       = am.get("Levels/Images/coin.png", Texture.class);
     }
 
     @Override
     public void createLevel(World world) {
-        // 1) Знаходимо точку спавну Player
+        Object span = GameEvents.begin(GameEvents.Type.LEVEL_LOAD);
+
+        // Скомпільований рівень (:core:compileLevels) або те саме, зібране з TiledMap
+        CompiledLevel lvl = CompiledLevel.find(mapPath, map);
+        if (lvl == null) lvl = compileFromMap();
+        if (lvl.solid != null) {
+            Gdx.app.log("TiledLevel", mapPath + ": ground colliders " + lvl.solidCells() + " -> " + lvl.solids.length / 4);
+        }
+
+        // 1) Точка спавну Player
+        if (lvl.hasSpawn) {
+            startX = lvl.spawnX;
+            startY = lvl.spawnY;
+        } else {
+            startX = 0;
+            startY = 0;
+            System.err.println("Warning: у карті не знайдено PlayerSpawn → стартова точка (0,0)");
+        }
+
+        // 2) Платформи по чанках; у світ їх додає LevelChunks.update
+        chunks = new LevelChunks(lvl.cols, lvl.rows, lvl.tileW, lvl.tileH, lvl.tileW,
+            collisionMode, defaultTex, coinTex);
+        float[] solids = lvl.solids;
+        for (int i = 0; i < solids.length; i += 4) {
+            chunks.addSolid(solids[i], solids[i + 1], solids[i + 2], solids[i + 3]);
+        }
+        // Бітова карта будується один раз: далі фізика питає лише сусідні клітинки
+        if (lvl.solid != null && collisionMode == CollisionMode.TILE_BITMAP) {
+            world.setCollisionMap(new TileCollisionMap(lvl.solid, lvl.tileW, lvl.tileH));
+        }
+
+        // 3) Монети
+        for (int i = 0; i < lvl.coins.length; i += 2) {
+            chunks.addCoin(lvl.coins[i], lvl.coins[i + 1]);
+        }
+
+        // 4) Вороги
+        LevelChunks.EnemyType[] types = LevelChunks.EnemyType.values();
+        for (int i = 0; i < lvl.enemyTypes.length; i++) {
+            chunks.addEnemy(types[lvl.enemyTypes[i]], lvl.enemies[i * 2], lvl.enemies[i * 2 + 1]);
+        }
+        GameEvents.levelLoad(span, mapPath,
+            chunks.getPlatformCount(), chunks.getCoinCount(), chunks.getEnemyCount());
+    }
+
+    /** Те саме, що робить {@link LevelCompiler}, але з уже завантаженої TiledMap */
+    private CompiledLevel compileFromMap() {
+        CompiledLevel lvl = new CompiledLevel();
+        MapProperties props = map.getProperties();
+        lvl.cols  = props.get("width", Integer.class);
+        lvl.rows  = props.get("height", Integer.class);
+        lvl.tileW = props.get("tilewidth", Integer.class);
+        lvl.tileH = props.get("tileheight", Integer.class);
+
+        // Спавн: спершу шар "Spawn", потім будь-який шар
         RectangleMapObject spawnObj = null;
         MapLayer spawnLayer = map.getLayers().get("Spawn");
         if (spawnLayer != null) {
@@ -63,69 +128,75 @@ public class TiledLevel extends Level {
         }
         if (spawnObj != null) {
             Rectangle rs = spawnObj.getRectangle();
-            startX = rs.x;
-            startY = rs.y;
-        } else {
-            startX = 0;
-            startY = 0;
-            System.err.println("Warning: у карті не знайдено PlayerSpawn → стартова точка (0,0)");
+            lvl.hasSpawn = true;
+            lvl.spawnX   = rs.x;
+            lvl.spawnY   = rs.y;
         }
 
-        // 2) Платформи з шару "ground"
+        // Тверді клітинки шару "ground", злиті по чанках
         TiledMapTileLayer groundLayer = (TiledMapTileLayer) map.getLayers().get("ground");
         if (groundLayer != null) {
-            float tileW = groundLayer.getTileWidth();
-            float tileH = groundLayer.getTileHeight();
-            for (int x = 0; x < groundLayer.getWidth(); x++) {
-                for (int y = 0; y < groundLayer.getHeight(); y++) {
-                    if (groundLayer.getCell(x, y) != null) {
-                        world.addObject(new Platform(
-                            x * tileW, y * tileH,
-                            tileW, tileH,
-                            defaultTex
-                        ));
-                    }
+            lvl.solid = new boolean[lvl.cols][lvl.rows];
+            int w = Math.min(lvl.cols, groundLayer.getWidth()), h = Math.min(lvl.rows, groundLayer.getHeight());
+            for (int x = 0; x < w; x++) {
+                for (int y = 0; y < h; y++) {
+                    if (groundLayer.getCell(x, y) != null) lvl.solid[x][y] = true;
                 }
             }
+            lvl.mergeSolids();
         }
 
-        // 3) Монети з шару "Coins"
+        // Монети з шару "Coins"
+        FloatArray coins = new FloatArray();
         MapLayer coinsLayer = map.getLayers().get("Coins");
         if (coinsLayer != null) {
             for (MapObject obj : coinsLayer.getObjects().getByType(RectangleMapObject.class)) {
                 Rectangle r = ((RectangleMapObject) obj).getRectangle();
-
-                TextureRegion region = new TextureRegion(coinTex);
-                Array<TextureRegion> frames = new Array<>();
-                frames.add(region);
-                Animation<TextureRegion> idleAnim = new Animation<>(0.2f, frames, Animation.PlayMode.LOOP);
-                Animation<TextureRegion> collectAnim = new Animation<>(0.1f, frames, Animation.PlayMode.NORMAL);
-
-                world.addObject(new Coin(r.x, r.y, idleAnim, collectAnim));
+                coins.add(r.x, r.y);
             }
         }
+        lvl.coins = coins.toArray();
 
-        // 4) Вороги з шару "Enemies"
+        // Вороги з шару "Enemies"; невідомі типи пропускаються
+        ByteArray  types   = new ByteArray();
+        FloatArray enemies = new FloatArray();
         MapLayer enemiesLayer = map.getLayers().get("Enemies");
         if (enemiesLayer != null) {
             for (MapObject obj : enemiesLayer.getObjects().getByType(RectangleMapObject.class)) {
+                LevelChunks.EnemyType type =
+                    LevelChunks.EnemyType.fromMap(obj.getProperties().get("type", String.class));
+                if (type == null) continue;
                 Rectangle r = ((RectangleMapObject) obj).getRectangle();
-                String type = obj.getProperties().get("type", String.class);
-
-                if ("Goblin".equals(type)) {
-                    world.addEnemy(new Goblin(r.x, r.y));
-                } else if ("Spider".equals(type)) {
-                    world.addEnemy(new Spider(r.x, r.y));
-                } else if ("Skeleton".equals(type)) {
-                    world.addEnemy(new Skeleton(r.x, r.y));
-                }
+                types.add((byte) type.ordinal());
+                enemies.add(r.x, r.y);
             }
         }
+        lvl.enemyTypes = types.toArray();
+        lvl.enemies    = enemies.toArray();
+        return lvl;
+    }
+
+    /** Чанки рівня після {@link #createLevel(World)}; їх крокує Simulation */
+    public LevelChunks getChunks() {
+        return chunks;
+    }
+
+    /** Режим колізій; задається до {@link #createLevel(World)} */
+    public void setCollisionMode(CollisionMode mode) {
+        this.collisionMode = mode;
     }
 
     public void renderMap(OrthographicCamera cam) {
-        renderer.setView(cam);
-        renderer.render();
+        if (tileCache == null) {
+            renderer  = new OrthogonalTiledMapRenderer(map, 1f, batch);
+            tileCache = new StaticTileCache(map, renderer);
+        }
+        tileCache.render(cam);
+    }
+
+    /** Виклики відмальовки карти за останній {@link #renderMap} */
+    public int getRenderCalls() {
+        return tileCache != null ? tileCache.getRenderCalls() : 0;
     }
 
     public float getMapPixelWidth() {
@@ -140,7 +211,8 @@ public class TiledLevel extends Level {
 
     @Override
     public void dispose() {
-        renderer.dispose();
-        map.dispose();
+        if (tileCache != null) tileCache.dispose();
+        if (renderer != null)  renderer.dispose();
+        // Карта належить AssetManager і звільняється через unload (LevelStreamer)
     }
 }
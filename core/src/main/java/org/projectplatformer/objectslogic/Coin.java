@@ -47,6 +47,11 @@ public class Coin extends GameObject {
         batch.draw(frame, bounds.x, bounds.y, bounds.width, bounds.height);
     }
 
+    /** Гравець уже взяв монету (можливо, ще грає анімація збору) */
+    public boolean isCollected() {
+        return collected;
+    }
+
     public boolean isFinished() {
         return finished;
     }
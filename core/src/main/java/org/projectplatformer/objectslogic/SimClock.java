@@ -0,0 +1,42 @@
+package org.projectplatformer.objectslogic;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Час і випадковість симуляції. Час рахується кроками World.update, а не
+ * годинником системи, а генератор має фіксоване зерно — тож однаковий ввід
+ * дає однаковий прогін (див. запис/повтор вводу).
+ * AI ворогів бере час і випадкові числа лише звідси.
+ */
+public class SimClock {
+    private final RandomXS128 random;
+    private final long seed;
+    private long   ticks = 0;
+    private double time  = 0.0;
+
+    public SimClock(long seed) {
+        this.seed   = seed;
+        this.random = new RandomXS128(seed);
+    }
+
+    /** Назад до старту рівня: нуль кроків і генератор з того ж зерна */
+    public void reset() {
+        random.setSeed(seed);
+        ticks = 0;
+        time  = 0.0;
+    }
+
+    /** Один крок симуляції */
+    public void advance(float delta) {
+        ticks++;
+        time += delta;
+    }
+
+    /** Кількість кроків від старту рівня */
+    public long getTicks() { return ticks; }
+
+    /** Час симуляції від старту рівня, с */
+    public double getTime() { return time; }
+
+    public RandomXS128 getRandom() { return random; }
+}
@@ -0,0 +1,146 @@
+package org.projectplatformer.objectslogic;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Просторовий хеш для сутностей світу (об'єкти, вороги).
+ * Кожен елемент реєструється в клітинках, які перекриває його прямокутник;
+ * запит за областю (напр. кадром камери) повертає лише тих, хто її перетинає.
+ * Рухомі елементи оновлюються через {@link #update}, і перереєструються
+ * лише коли змінюється набір їхніх клітинок.
+ *
+ * Результат запиту — у порядку додавання, тож порядок малювання не змінюється.
+ */
+public class SpatialHash<T> {
+    private static final class Entry<T> {
+        final T         item;
+        final Rectangle bounds;
+        final int       seq;
+        int cx0, cy0, cx1, cy1;
+        int stamp;
+
+        Entry(T item, Rectangle bounds, int seq) {
+            this.item   = item;
+            this.bounds = bounds;
+            this.seq    = seq;
+        }
+    }
+
+    private static final Comparator<Entry<?>> BY_SEQ = (a, b) -> Integer.compare(a.seq, b.seq);
+
+    private final float cellSize;
+    private final LongMap<List<Entry<T>>> cells   = new LongMap<>();
+    private final Map<T, Entry<T>>        entries = new IdentityHashMap<>();
+    private int nextSeq = 0;
+
+    // Відсіювання дублікатів (елемент у кількох клітинках) та буфер результатів
+    private int stamp = 0;
+    private final List<Entry<T>> found = new ArrayList<>();
+
+    public SpatialHash(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Додати елемент. Прямокутник зберігається за посиланням — після руху
+     * елемента викличте {@link #update}.
+     */
+    public void insert(T item, Rectangle bounds) {
+        if (entries.containsKey(item)) return;
+        Entry<T> e = new Entry<>(item, bounds, nextSeq++);
+        entries.put(item, e);
+        register(e);
+    }
+
+    /** Елемент перемістився — перереєструвати, якщо змінились клітинки */
+    public void update(T item) {
+        Entry<T> e = entries.get(item);
+        if (e == null) return;
+        Rectangle b = e.bounds;
+        if (cell(b.x) == e.cx0 && cell(b.x + b.width)  == e.cx1
+            && cell(b.y) == e.cy0 && cell(b.y + b.height) == e.cy1) return;
+        unregister(e);
+        register(e);
+    }
+
+    public void remove(T item) {
+        Entry<T> e = entries.remove(item);
+        if (e != null) unregister(e);
+    }
+
+    public void clear() {
+        cells.clear();
+        entries.clear();
+    }
+
+    /** Заповнити out елементами, чиї прямокутники перетинають area; out очищується */
+    public void query(Rectangle area, List<T> out) {
+        out.clear();
+        if (++stamp == 0) { // переповнення лічильника — скидаємо штампи
+            for (Entry<T> e : entries.values()) e.stamp = 0;
+            stamp = 1;
+        }
+        found.clear();
+        int x0 = cell(area.x), x1 = cell(area.x + area.width);
+        int y0 = cell(area.y), y1 = cell(area.y + area.height);
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                List<Entry<T>> list = cells.get(key(cx, cy));
+                if (list == null) continue;
+                for (int i = 0; i < list.size(); i++) {
+                    Entry<T> e = list.get(i);
+                    if (e.stamp == stamp) continue;
+                    e.stamp = stamp;
+                    if (e.bounds.overlaps(area)) found.add(e);
+                }
+            }
+        }
+        found.sort(BY_SEQ);
+        for (int i = 0; i < found.size(); i++) out.add(found.get(i).item);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void register(Entry<T> e) {
+        Rectangle b = e.bounds;
+        e.cx0 = cell(b.x); e.cx1 = cell(b.x + b.width);
+        e.cy0 = cell(b.y); e.cy1 = cell(b.y + b.height);
+        for (int cy = e.cy0; cy <= e.cy1; cy++) {
+            for (int cx = e.cx0; cx <= e.cx1; cx++) {
+                long k = key(cx, cy);
+                List<Entry<T>> list = cells.get(k);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    cells.put(k, list);
+                }
+                list.add(e);
+            }
+        }
+    }
+
+    private void unregister(Entry<T> e) {
+        for (int cy = e.cy0; cy <= e.cy1; cy++) {
+            for (int cx = e.cx0; cx <= e.cx1; cx++) {
+                List<Entry<T>> list = cells.get(key(cx, cy));
+                if (list != null) list.remove(e);
+            }
+        }
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v / cellSize);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xffffffffL);
+    }
+}
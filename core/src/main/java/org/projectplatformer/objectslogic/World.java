@@ -3,59 +3,249 @@ package org.projectplatformer.objectslogic;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.physics.CollisionGrid;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.player.Player;
+import org.projectplatformer.weapon.ProjectileSystem;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 public class World {
     private final List<GameObject>   objects = new ArrayList<>();
+    private final List<GameObject>   objectView = Collections.unmodifiableList(objects);
     private final List<BaseEnemy>    enemies = new ArrayList<>();
+    private CollisionMap             collisionMap;
 
-    public void addObject(GameObject obj)      { objects.add(obj); }
-    public void removeObject(GameObject obj)   { objects.remove(obj); }
-    public List<GameObject> getObjects()       { return objects; }
+    // Індекс платформ: перебудовується лише коли додають/прибирають Platform
+    private final List<Rectangle>    platformBounds = new ArrayList<>();
+    private final List<Rectangle>    platformView   = Collections.unmodifiableList(platformBounds);
+    private boolean                  platformsDirty = false;
+    private int                      platformVersion = 0;
+
+    // Область активності: камера + запас. Вороги поза нею «сплять» —
+    // не рахують AI та фізику, але зберігають увесь свій стан
+    public static final float        DEFAULT_ACTIVITY_MARGIN = 256f;
+    private float                    activityMargin = DEFAULT_ACTIVITY_MARGIN;
+    private final Rectangle          activeRegion   = new Rectangle();
+    private boolean                  hasActiveRegion = false;
+
+    // Просторові індекси для відсікання за кадром камери
+    private static final float       INDEX_CELL_SIZE = 128f;
+    // Запас навколо кадру для ворогів: спрайти атак ширші за хітбокс, плюс інтерполяція
+    private static final float       ENEMY_RENDER_MARGIN = 64f;
+    private final SpatialHash<GameObject> objectIndex = new SpatialHash<>(INDEX_CELL_SIZE);
+    private final SpatialHash<BaseEnemy>  enemyIndex  = new SpatialHash<>(INDEX_CELL_SIZE);
+    private final List<GameObject>   visibleObjects = new ArrayList<>();
+    private final List<BaseEnemy>    visibleEnemies = new ArrayList<>();
+    private final Rectangle          enemyView      = new Rectangle();
+    private final List<BaseEnemy>    enemiesInArea  = new ArrayList<>();
+
+    // Усі снаряди світу; влучання у ворогів — через enemyIndex
+    private final ProjectileSystem   projectiles    = new ProjectileSystem();
+
+    // Час і випадковість для AI — детерміновані, від зерна рівня
+    private final SimClock           clock;
+
+    public World() {
+        this(0L);
+    }
+
+    public World(long seed) {
+        this.clock = new SimClock(seed);
+    }
+
+    public void addObject(GameObject obj) {
+        objects.add(obj);
+        objectIndex.insert(obj, obj.getBounds());
+        if (obj instanceof Platform) markPlatformsChanged();
+    }
+
+    public void removeObject(GameObject obj) {
+        if (!objects.remove(obj)) return;
+        objectIndex.remove(obj);
+        if (obj instanceof Platform) markPlatformsChanged();
+    }
+
+    /** Лише для читання: об'єкти додаються/прибираються через addObject/removeObject (індекси, версія платформ) */
+    public List<GameObject> getObjects()       { return objectView; }
+
+    public void addEnemy(BaseEnemy e) {
+        enemies.add(e);
+        enemyIndex.insert(e, e.getBounds());
+        e.setProjectileSystem(projectiles);
+        e.setClock(clock);
+    }
+
+    /** false — ворога вже немає у світі (мертвих прибирає і звільняє {@link #update}) */
+    public boolean removeEnemy(BaseEnemy e) {
+        if (!enemies.remove(e)) return false;
+        enemyIndex.remove(e);
+        return true;
+    }
 
-    public void addEnemy(BaseEnemy e)          { enemies.add(e); }
-    public void removeEnemy(BaseEnemy e)       { enemies.remove(e); }
     public List<BaseEnemy> getEnemies()        { return enemies; }
 
-    /** Всі платформи (хітбокси) для колізій */
+    /**
+     * Вороги, чиї хітбокси перетинають area, у порядку додавання.
+     * Список перевикористовується — дійсний до наступного виклику.
+     */
+    public List<BaseEnemy> queryEnemies(Rectangle area) {
+        enemyIndex.query(area, enemiesInArea);
+        return enemiesInArea;
+    }
+
+    public ProjectileSystem getProjectiles()   { return projectiles; }
+
+    public SimClock getClock()                 { return clock; }
+
+    /**
+     * Перезапуск рівня на місці: снаряди назад у пул, час і випадковість — з початку.
+     * Об'єкти рівня повертає {@link org.projectplatformer.levellogic.LevelChunks#reset}.
+     */
+    public void reset() {
+        projectiles.clear();
+        clock.reset();
+    }
+
+    /** Ширина рівня — снаряди за її межами прибираються */
+    public void setWorldWidth(float width)     { projectiles.setWorldWidth(width); }
+
+    /**
+     * Всі платформи (хітбокси) для колізій.
+     * Список лише для читання і не створюється заново кожного кадру.
+     */
     public List<Rectangle> getPlatformBounds() {
-        List<Rectangle> list = new ArrayList<>();
-        for (GameObject obj : objects) {
-            if (obj instanceof Platform) {
-                list.add(((Platform)obj).getBounds());
+        if (platformsDirty) {
+            platformBounds.clear();
+            for (GameObject obj : objects) {
+                if (obj instanceof Platform) {
+                    platformBounds.add(obj.getBounds());
+                }
             }
+            platformsDirty = false;
         }
-        return list;
+        return platformView;
     }
 
-    /** Оновлення світу — нова сигнатура */
-    public void update(float delta, Player player, List<Rectangle> platforms) {
+    /** Лічильник змін набору платформ — щоб споживачі бачили, що індекс застарів */
+    public int getPlatformVersion() {
+        return platformVersion;
+    }
+
+    private void markPlatformsChanged() {
+        platformsDirty = true;
+        platformVersion++;
+    }
+
+    /** Колізійна геометрія будується рівнем один раз після додавання платформ */
+    public void setCollisionMap(CollisionMap map) { this.collisionMap = map; }
+
+    /** Геометрія для фізики, step-up та проб ворогів */
+    public CollisionMap getCollisionMap() {
+        if (collisionMap == null) collisionMap = CollisionGrid.empty();
+        return collisionMap;
+    }
+
+    /** Запас навколо камери, у якому вороги ще активні (px) */
+    public void setActivityMargin(float margin) { this.activityMargin = margin; }
+    public float getActivityMargin()            { return activityMargin; }
+
+    /**
+     * Видима область камери на цей кадр; до першого виклику активні всі вороги.
+     */
+    public void setActiveRegion(float viewX, float viewY, float viewWidth, float viewHeight) {
+        activeRegion.set(
+            viewX - activityMargin,
+            viewY - activityMargin,
+            viewWidth  + 2f * activityMargin,
+            viewHeight + 2f * activityMargin
+        );
+        hasActiveRegion = true;
+    }
+
+    /** Область активності цього кроку (камера + запас); лише для читання */
+    public Rectangle getActiveRegion() {
+        return activeRegion;
+    }
+
+    /** Чи оновлюється ворог цього кроку */
+    public boolean isActive(BaseEnemy e) {
+        return !hasActiveRegion || activeRegion.overlaps(e.getBounds());
+    }
+
+    /** Оновлення світу — колізії беруться із сітки світу */
+    public void update(float delta, Player player) {
+        CollisionMap platforms = getCollisionMap();
+        clock.advance(delta);
+
         // 1) Оновити всі нерухомі об’єкти (Item, Platform тощо)
         for (GameObject obj : objects) {
             obj.update(delta);
         }
 
-        // 2) Оновити всіх ворогів із фізикою, AI та атакою
+        // 2) Оновити активних ворогів із фізикою, AI та атакою (сплячі стоять як є)
         Iterator<BaseEnemy> it = enemies.iterator();
         while (it.hasNext()) {
             BaseEnemy e = it.next();
             if (!e.isAlive()) {
                 e.dispose();
                 it.remove();
-            } else {
+                enemyIndex.remove(e);
+            } else if (isActive(e)) {
+                e.savePreviousPosition();
                 e.update(delta, player, platforms); // <- Тепер передаємо платформи
+                enemyIndex.update(e);
+            }
+        }
+
+        // 3) Снаряди — після руху ворогів, щоб влучання бачили їхні нові позиції
+        projectiles.update(delta, platforms, player, enemyIndex);
+    }
+
+    /** Збір монет гравцем; зібрані монети прибираються після анімації */
+    public void updateCoins(float delta, Player player) {
+        Iterator<GameObject> it = objects.iterator();
+        while (it.hasNext()) {
+            GameObject obj = it.next();
+            if (obj instanceof Coin) {
+                Coin coin = (Coin) obj;
+                coin.update(delta, player);
+                if (coin.isFinished()) {
+                    it.remove();
+                    objectIndex.remove(coin);
+                }
             }
         }
     }
 
-    /** Рендер всіх об’єктів і ворогів */
-    public void render(SpriteBatch batch) {
-        for (GameObject obj : objects) obj.render(batch);
-        for (BaseEnemy  e   : enemies)  e.render(batch);
+    /**
+     * Рендер об’єктів і ворогів, що потрапляють у кадр камери.
+     * @param alpha частка між двома останніми кроками симуляції (0..1)
+     * @param view  видима область камери у світових координатах
+     */
+    public void render(SpriteBatch batch, float alpha, Rectangle view) {
+        objectIndex.query(view, visibleObjects);
+        for (GameObject obj : visibleObjects) obj.render(batch);
+
+        enemyView.set(
+            view.x - ENEMY_RENDER_MARGIN, view.y - ENEMY_RENDER_MARGIN,
+            view.width + 2f * ENEMY_RENDER_MARGIN, view.height + 2f * ENEMY_RENDER_MARGIN
+        );
+        enemyIndex.query(enemyView, visibleEnemies);
+        for (BaseEnemy e : visibleEnemies) {
+            e.interpolate(alpha);
+            e.render(batch);
+        }
+
+        projectiles.render(batch, view);
+    }
+
+    /** Вороги, намальовані останнім {@link #render} (для дебаг-хітбоксів) */
+    public List<BaseEnemy> getVisibleEnemies() {
+        return visibleEnemies;
     }
 }
 
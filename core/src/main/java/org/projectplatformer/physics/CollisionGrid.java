@@ -0,0 +1,168 @@
+package org.projectplatformer.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Рівномірна сітка (broadphase) для статичних твердих тіл рівня.
+ * Кожен прямокутник реєструється у всіх клітинках, які він перекриває,
+ * тож запит повертає лише платформи з кількох клітинок навколо тіла,
+ * а не весь список рівня.
+ */
+public class CollisionGrid implements CollisionMap {
+    private final float cellSize;
+    private final int   cols, rows;
+
+    // Компактне зберігання клітинок: індекси твердих тіл клітинки c
+    // лежать у cellItems[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellItems;
+
+    private final Rectangle[]     solids;
+    private final List<Rectangle> solidsView;
+
+    // Штампи для відсіювання дублікатів, коли тіло займає кілька клітинок
+    private final int[] stamps;
+    private int         stamp = 0;
+
+    // Буфер індексів кандидатів (щоб запит не алокував)
+    private int[] found = new int[16];
+
+    /**
+     * @param solids      прямокутники твердих тіл (копіюються посилання)
+     * @param cellSize    розмір клітинки в пікселях (зазвичай розмір тайла)
+     * @param worldWidth  ширина карти в пікселях
+     * @param worldHeight висота карти в пікселях
+     */
+    public CollisionGrid(List<Rectangle> solids, float cellSize, float worldWidth, float worldHeight) {
+        this.cellSize = cellSize;
+        this.cols     = Math.max(1, (int) Math.ceil(worldWidth  / cellSize));
+        this.rows     = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.solids   = solids.toArray(new Rectangle[0]);
+        this.solidsView = Collections.unmodifiableList(Arrays.asList(this.solids));
+        this.stamps   = new int[this.solids.length];
+
+        // 1) Рахуємо, скільки тіл потрапляє в кожну клітинку
+        int cellCount = cols * rows;
+        cellStart = new int[cellCount + 1];
+        for (Rectangle r : this.solids) {
+            int x0 = cellX(r.x), x1 = cellX(r.x + r.width);
+            int y0 = cellY(r.y), y1 = cellY(r.y + r.height);
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    cellStart[cy * cols + cx + 1]++;
+                }
+            }
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // 2) Розкладаємо індекси по клітинках
+        cellItems = new int[cellStart[cellCount]];
+        int[] fill = Arrays.copyOf(cellStart, cellCount);
+        for (int i = 0; i < this.solids.length; i++) {
+            Rectangle r = this.solids[i];
+            int x0 = cellX(r.x), x1 = cellX(r.x + r.width);
+            int y0 = cellY(r.y), y1 = cellY(r.y + r.height);
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cx = x0; cx <= x1; cx++) {
+                    cellItems[fill[cy * cols + cx]++] = i;
+                }
+            }
+        }
+    }
+
+    /** Порожня сітка (рівень без шару "ground") */
+    public static CollisionGrid empty() {
+        return new CollisionGrid(new ArrayList<Rectangle>(), 32f, 32f, 32f);
+    }
+
+    /**
+     * Кандидати з клітинок, які перекриває прямокутник (x, y, w, h).
+     * Порядок — такий самий, як у вихідному списку, тож результати
+     * колізій не відрізняються від лінійного проходу по всіх платформах.
+     * Точну перевірку перетину робить той, хто викликає.
+     */
+    @Override
+    public void query(float x, float y, float w, float h, List<Rectangle> out) {
+        out.clear();
+        int n = collect(x, y, w, h);
+        for (int i = 0; i < n; i++) {
+            out.add(solids[found[i]]);
+        }
+    }
+
+    @Override
+    public boolean overlaps(float x, float y, float w, float h) {
+        int n = collect(x, y, w, h);
+        for (int i = 0; i < n; i++) {
+            if (overlaps(solids[found[i]], x, y, w, h)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public float firstTop(float x, float y, float w, float h) {
+        float lowest = Float.NaN;
+        int n = collect(x, y, w, h);
+        for (int i = 0; i < n; i++) {
+            Rectangle r = solids[found[i]];
+            if (!overlaps(r, x, y, w, h)) continue;
+            float top = r.y + r.height;
+            if (Float.isNaN(lowest) || top < lowest) lowest = top;
+        }
+        return lowest;
+    }
+
+    /** Усі тверді тіла (лише для читання) */
+    public List<Rectangle> getSolids() {
+        return solidsView;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    private int collect(float x, float y, float w, float h) {
+        if (++stamp == 0) { // переповнення лічильника — скидаємо штампи
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+        int x0 = cellX(x), x1 = cellX(x + w);
+        int y0 = cellY(y), y1 = cellY(y + h);
+        int n = 0;
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int c = cy * cols + cx;
+                for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                    int idx = cellItems[k];
+                    if (stamps[idx] == stamp) continue;
+                    stamps[idx] = stamp;
+                    if (n == found.length) found = Arrays.copyOf(found, n * 2);
+                    found[n++] = idx;
+                }
+            }
+        }
+        Arrays.sort(found, 0, n);
+        return n;
+    }
+
+    private static boolean overlaps(Rectangle r, float x, float y, float w, float h) {
+        return x < r.x + r.width && x + w > r.x && y < r.y + r.height && y + h > r.y;
+    }
+
+    private int cellX(float x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int cellY(float y) {
+        int c = (int) Math.floor(y / cellSize);
+        return c < 0 ? 0 : (c >= rows ? rows - 1 : c);
+    }
+}
@@ -0,0 +1,38 @@
+package org.projectplatformer.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.List;
+
+/**
+ * Статична геометрія рівня, до якої звертаються фізика, гравець та AI ворогів.
+ * Реалізації: {@link CollisionGrid} (список прямокутників + broadphase)
+ * та {@link TileCollisionMap} (бітова карта твердих клітинок).
+ */
+public interface CollisionMap {
+
+    /** Чи перетинає прямокутник (x, y, w, h) хоч одне тверде тіло (строго, як Rectangle.overlaps) */
+    boolean overlaps(float x, float y, float w, float h);
+
+    /** Те саме, що {@link #overlaps(float, float, float, float)} для прямокутника */
+    default boolean overlaps(Rectangle area) {
+        return overlaps(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Верхній край найнижчого твердого тіла, що перетинає (x, y, w, h),
+     * або NaN, якщо перетину немає. Для step-up це висота першої сходинки.
+     */
+    float firstTop(float x, float y, float w, float h);
+
+    /**
+     * Заповнити out твердими тілами з околу прямокутника (x, y, w, h).
+     * Точну перевірку перетину робить той, хто викликає; out очищується.
+     */
+    void query(float x, float y, float w, float h, List<Rectangle> out);
+
+    /** Те саме, що {@link #query(float, float, float, float, List)} для прямокутника */
+    default void query(Rectangle area, List<Rectangle> out) {
+        query(area.x, area.y, area.width, area.height, out);
+    }
+}
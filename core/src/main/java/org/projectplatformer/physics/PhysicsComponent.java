@@ -1,6 +1,8 @@
 package org.projectplatformer.physics;
 
 import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,6 +26,17 @@ public class PhysicsComponent {
     private boolean isClimbing = false;
     private float   climbSpeed = 0f;
 
+    // Буфер для запитів до сітки колізій (без алокацій за кадр)
+    private final List<Rectangle> nearby = new ArrayList<>();
+
+    // Неперервна колізія: швидке тіло не проскакує крізь тонкі платформи
+    private final SweptAabb     sweeper = new SweptAabb();
+    private final SweptAabb.Hit hit     = new SweptAabb.Hit();
+
+    // Позиція на початку кроку симуляції та інтерпольована позиція для рендеру
+    private float prevX, prevY;
+    private final Rectangle renderBounds = new Rectangle();
+
     public PhysicsComponent(Rectangle bounds,
                             float gravity,
                             float maxFallSpeed,
@@ -36,8 +49,31 @@ public class PhysicsComponent {
         this.drag = drag;
         this.maxStepHeight = maxStepHeight;
         this.stepUpSpeed = stepUpSpeed;
+        savePreviousPosition();
+        renderBounds.set(bounds);
+    }
+
+    /** Запам'ятати позицію перед кроком симуляції */
+    public void savePreviousPosition() {
+        prevX = bounds.x;
+        prevY = bounds.y;
     }
 
+    /**
+     * Позиція для малювання між попереднім і поточним кроком.
+     * @param alpha 0 — попередній крок, 1 — поточний
+     */
+    public Rectangle interpolate(float alpha) {
+        return renderBounds.set(
+            prevX + (bounds.x - prevX) * alpha,
+            prevY + (bounds.y - prevY) * alpha,
+            bounds.width, bounds.height
+        );
+    }
+
+    /** Останній результат {@link #interpolate(float)} */
+    public Rectangle getRenderBounds() { return renderBounds; }
+
     /**
      * Вмикає карабкання зі швидкістю speed
      */
@@ -54,9 +90,10 @@ public class PhysicsComponent {
     }
 
     /**
-     * Оновлення фізики за кадр
+     * Оновлення фізики за крок. Рух по кожній осі перевіряється неперервно
+     * ({@link SweptAabb}), тож результат не залежить від величини delta.
      */
-    public void update(float delta, List<Rectangle> platforms) {
+    public void update(float delta, CollisionMap platforms) {
         // --- вертикальна фізика ---
         if (isClimbing) {
             // карабкання: ігнор гравітацію
@@ -66,10 +103,18 @@ public class PhysicsComponent {
             velY += gravity * delta;
             if (velY < maxFallSpeed) velY = maxFallSpeed;
         }
-        bounds.y += velY * delta;
+        float dy = velY * delta;
+        if (dy < 0f && sweeper.cast(platforms, bounds, 0f, dy, hit)) {
+            // приземлення в момент дотику, а не після проходу крізь платформу
+            bounds.y = hit.solid.y + hit.solid.height;
+            velY = 0f;
+        } else {
+            bounds.y += dy;
+        }
 
-        // колізії по Y (приземлення)
-        for (Rectangle p : platforms) {
+        // колізії по Y (якщо тіло вже було всередині платформи)
+        platforms.query(bounds, nearby);
+        for (Rectangle p : nearby) {
             if (bounds.overlaps(p) && velY <= 0f) {
                 bounds.y = p.y + p.height;
                 velY = 0f;
@@ -78,11 +123,19 @@ public class PhysicsComponent {
         }
 
         // --- горизонтальна фізика ---
-        bounds.x += velX * delta;
+        float dx = velX * delta;
+        if (dx != 0f && sweeper.cast(platforms, bounds, dx, 0f, hit)) {
+            // зупиняємось біля стіни
+            bounds.x = hit.normalX < 0f ? hit.solid.x - bounds.width : hit.solid.x + hit.solid.width;
+            velX = 0f;
+        } else {
+            bounds.x += dx;
+        }
         velX *= drag;
 
-        // колізії по X
-        for (Rectangle p : platforms) {
+        // колізії по X (якщо тіло вже було всередині стіни)
+        platforms.query(bounds, nearby);
+        for (Rectangle p : nearby) {
             if (bounds.overlaps(p)) {
                 if (velX > 0) bounds.x = p.x - bounds.width;
                 else          bounds.x = p.x + p.width;
@@ -95,19 +148,15 @@ public class PhysicsComponent {
     /**
      * Додатковий step-up: "підстрибуємо" на невеликі пороги
      */
-    public void tryStepUp(List<Rectangle> platforms, boolean facingRight) {
+    public void tryStepUp(CollisionMap platforms, boolean facingRight) {
         float probeX = facingRight
             ? bounds.x + bounds.width + 1
             : bounds.x - 1;
-        Rectangle probe = new Rectangle(probeX, bounds.y, 1, bounds.height);
-        for (Rectangle p : platforms) {
-            if (probe.overlaps(p)) {
-                float heightDiff = p.y + p.height - bounds.y;
-                if (heightDiff > 0 && heightDiff <= maxStepHeight && velY == 0f) {
-                    velY = stepUpSpeed;
-                }
-                break;
-            }
+        float top = platforms.firstTop(probeX, bounds.y, 1, bounds.height);
+        if (Float.isNaN(top)) return;
+        float heightDiff = top - bounds.y;
+        if (heightDiff > 0 && heightDiff <= maxStepHeight && velY == 0f) {
+            velY = stepUpSpeed;
         }
     }
     public float getMaxStepHeight() {
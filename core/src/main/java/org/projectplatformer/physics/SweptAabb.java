@@ -0,0 +1,105 @@
+package org.projectplatformer.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Неперервна перевірка колізій (swept AABB): прямокутник рухається на (dx, dy)
+ * за крок, і ми шукаємо момент першого дотику до твердого тіла, а не перетин
+ * у кінцевій точці. Так швидкі тіла не «проскакують» крізь тонкі платформи
+ * навіть при великому delta.
+ *
+ * Тіла, які вже перетинають прямокутник на початку кроку, ігноруються —
+ * їх розводить звичайна перевірка перетину.
+ */
+public class SweptAabb {
+
+    /** Результат перевірки: перший дотик за крок */
+    public static class Hit {
+        /** Частка переміщення до дотику (0..1) */
+        public float time;
+        /** Нормаль поверхні дотику: (-1/1, 0) або (0, -1/1) */
+        public float normalX, normalY;
+        /** Копія прямокутника перешкоди */
+        public final Rectangle solid = new Rectangle();
+    }
+
+    // Буфери (без алокацій за кадр)
+    private final List<Rectangle> candidates = new ArrayList<>();
+    private final Hit             scratch    = new Hit();
+
+    /**
+     * Перший дотик прямокутника box, що рухається на (dx, dy), до статичної геометрії.
+     * @return true, якщо дотик є; тоді out заповнено
+     */
+    public boolean cast(CollisionMap map, Rectangle box, float dx, float dy, Hit out) {
+        // Broadphase: усе, що лежить у сумарній області руху
+        float minX = Math.min(box.x, box.x + dx);
+        float minY = Math.min(box.y, box.y + dy);
+        map.query(minX, minY, box.width + Math.abs(dx), box.height + Math.abs(dy), candidates);
+
+        boolean found = false;
+        for (Rectangle s : candidates) {
+            if (!sweep(box, dx, dy, s, scratch)) continue;
+            if (!found || scratch.time < out.time) {
+                out.time    = scratch.time;
+                out.normalX = scratch.normalX;
+                out.normalY = scratch.normalY;
+                out.solid.set(scratch.solid);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Дотик рухомого box до одного статичного прямокутника solid.
+     * Лише дотик, а не «ковзання» по грані: тіла, що торкаються без
+     * перетину на осі, перпендикулярній до руху, колізією не вважаються.
+     */
+    public static boolean sweep(Rectangle box, float dx, float dy, Rectangle solid, Hit out) {
+        float entryX, exitX, entryY, exitY;
+
+        if (dx > 0f) {
+            entryX = (solid.x - (box.x + box.width)) / dx;
+            exitX  = (solid.x + solid.width - box.x) / dx;
+        } else if (dx < 0f) {
+            entryX = (solid.x + solid.width - box.x) / dx;
+            exitX  = (solid.x - (box.x + box.width)) / dx;
+        } else {
+            if (box.x + box.width <= solid.x || box.x >= solid.x + solid.width) return false;
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX  = Float.POSITIVE_INFINITY;
+        }
+
+        if (dy > 0f) {
+            entryY = (solid.y - (box.y + box.height)) / dy;
+            exitY  = (solid.y + solid.height - box.y) / dy;
+        } else if (dy < 0f) {
+            entryY = (solid.y + solid.height - box.y) / dy;
+            exitY  = (solid.y - (box.y + box.height)) / dy;
+        } else {
+            if (box.y + box.height <= solid.y || box.y >= solid.y + solid.height) return false;
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY  = Float.POSITIVE_INFINITY;
+        }
+
+        float entry = Math.max(entryX, entryY);
+        float exit  = Math.min(exitX, exitY);
+        // entry < 0 — тіла вже перетинаються; entry == exit — лише кут
+        if (entry >= exit || entry < 0f || entry > 1f) return false;
+
+        out.time = entry;
+        if (entryX > entryY) {
+            out.normalX = dx > 0f ? -1f : 1f;
+            out.normalY = 0f;
+        } else {
+            out.normalX = 0f;
+            out.normalY = dy > 0f ? -1f : 1f;
+        }
+        out.solid.set(solid);
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package org.projectplatformer.physics;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Колізії через упаковану бітову карту твердих клітинок.
+ * Кожен рядок тайлів — це масив long-ів (1 біт на клітинку), тож запит
+ * перевіряє лише клітинки під прямокутником і не проходить жодних списків.
+ * Для карти 120x30 це ~0.5 КБ даних.
+ *
+ * Знайдена тверда клітинка повертається як вертикальна суцільна смуга
+ * свого стовпця, щоб приземлення та step-up бачили справжню верхівку стіни.
+ * Межі смуг рахуються один раз при побудові, тож запит не залежить від
+ * висоти стіни.
+ */
+public class TileCollisionMap implements CollisionMap {
+    private final int   cols, rows;
+    private final int   wordsPerRow;
+    private final float tileW, tileH;
+    private final long[] bits; // bits[row * wordsPerRow + (col >>> 6)], біт (col & 63)
+
+    // Межі вертикальної смуги для твердої клітинки: runBottom/runTop[col * rows + row]
+    private final int[] runBottom, runTop;
+
+    // Тимчасові прямокутники для результатів (без алокацій за кадр)
+    private final List<Rectangle> pool = new ArrayList<>();
+
+    /**
+     * @param solid solid[x][y] — чи є у клітинці тверда плитка (y = 0 знизу)
+     * @param tileW ширина тайла в пікселях
+     * @param tileH висота тайла в пікселях
+     */
+    public TileCollisionMap(boolean[][] solid, float tileW, float tileH) {
+        this.cols  = solid.length;
+        this.rows  = cols == 0 ? 0 : solid[0].length;
+        this.tileW = tileW;
+        this.tileH = tileH;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.bits  = new long[wordsPerRow * rows];
+        for (int x = 0; x < cols; x++) {
+            for (int y = 0; y < rows; y++) {
+                if (solid[x][y]) bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+            }
+        }
+
+        this.runBottom = new int[cols * rows];
+        this.runTop    = new int[cols * rows];
+        for (int x = 0; x < cols; x++) {
+            int y = 0;
+            while (y < rows) {
+                if (!solid[x][y]) { y++; continue; }
+                int bottom = y;
+                while (y + 1 < rows && solid[x][y + 1]) y++;
+                for (int k = bottom; k <= y; k++) {
+                    runBottom[x * rows + k] = bottom;
+                    runTop[x * rows + k]    = y;
+                }
+                y++;
+            }
+        }
+    }
+
+    /** Чи тверда клітинка (за межами карти — ні) */
+    public boolean isSolid(int col, int row) {
+        if (col < 0 || row < 0 || col >= cols || row >= rows) return false;
+        return (bits[row * wordsPerRow + (col >>> 6)] & (1L << (col & 63))) != 0;
+    }
+
+    @Override
+    public boolean overlaps(float x, float y, float w, float h) {
+        // Клітинки, що строго перетинають прямокутник (як Rectangle.overlaps)
+        int c0 = Math.max(0, (int) Math.floor(x / tileW));
+        int c1 = Math.min(cols - 1, (int) Math.ceil((x + w) / tileW) - 1);
+        int r0 = Math.max(0, (int) Math.floor(y / tileH));
+        int r1 = Math.min(rows - 1, (int) Math.ceil((y + h) / tileH) - 1);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (isSolid(c, r)) return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public float firstTop(float x, float y, float w, float h) {
+        int c0 = Math.max(0, (int) Math.floor(x / tileW));
+        int c1 = Math.min(cols - 1, (int) Math.ceil((x + w) / tileW) - 1);
+        int r0 = Math.max(0, (int) Math.floor(y / tileH));
+        int r1 = Math.min(rows - 1, (int) Math.ceil((y + h) / tileH) - 1);
+        int lowest = Integer.MAX_VALUE;
+        for (int c = c0; c <= c1; c++) {
+            for (int r = r0; r <= r1; r++) {
+                if (isSolid(c, r)) {
+                    lowest = Math.min(lowest, runTop[c * rows + r]);
+                    break; // вище в цьому стовпці смуги лише вищі
+                }
+            }
+        }
+        return lowest == Integer.MAX_VALUE ? Float.NaN : (lowest + 1) * tileH;
+    }
+
+    @Override
+    public void query(float x, float y, float w, float h, List<Rectangle> out) {
+        out.clear();
+        int c0 = Math.max(0, (int) Math.floor(x / tileW));
+        int c1 = Math.min(cols - 1, (int) Math.floor((x + w) / tileW));
+        int r0 = Math.max(0, (int) Math.floor(y / tileH));
+        int r1 = Math.min(rows - 1, (int) Math.floor((y + h) / tileH));
+        int used = 0;
+        for (int c = c0; c <= c1; c++) {
+            int r = r0;
+            while (r <= r1) {
+                if (!isSolid(c, r)) { r++; continue; }
+                if (used == pool.size()) pool.add(new Rectangle());
+                Rectangle run = columnRun(c, r, pool.get(used++));
+                out.add(run);
+                r = Math.round((run.y + run.height) / tileH);
+            }
+        }
+    }
+
+    /** Суцільна вертикальна смуга твердих клітинок стовпця c, що містить рядок r */
+    private Rectangle columnRun(int c, int r, Rectangle out) {
+        int bottom = runBottom[c * rows + r], top = runTop[c * rows + r];
+        return out.set(c * tileW, bottom * tileH, tileW, (top - bottom + 1) * tileH);
+    }
+
+    public int getColumns() { return cols; }
+    public int getRows()    { return rows; }
+}
@@ -0,0 +1,101 @@
+package org.projectplatformer.player;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Запис вводу по кроках симуляції у компактний бінарний файл.
+ *
+ * Формат (DataOutput, big-endian):
+ * <pre>
+ *   int   MAGIC, byte VERSION, long seed
+ *   далі записи:
+ *     varint run &gt; 0, byte held, byte pressed  — run кроків з однаковим станом клавіш
+ *     varint 0, UTF levelPath                   — перед наступним кроком завантажено рівень
+ *   varint -1 (0xFFFFFFFF) — кінець
+ * </pre>
+ * Однакові кроки підряд (стоїмо, біжимо) займають один запис.
+ */
+public class InputRecorder {
+    static final int MAGIC   = 0x53505250; // "SPRP"
+    static final int VERSION = 1;
+    static final int END     = -1;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream      out   = new DataOutputStream(bytes);
+
+    private int  run = 0;
+    private int  runHeld, runPressed;
+    private long ticks = 0;
+
+    public InputRecorder(long seed) {
+        try {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(seed);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // ByteArrayOutputStream не кидає
+        }
+    }
+
+    /** Перед наступним кроком завантажено рівень */
+    public void levelLoaded(String levelPath) {
+        try {
+            flushRun();
+            writeVarInt(out, 0);
+            out.writeUTF(levelPath);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Стан клавіш, з яким виконується цей крок */
+    public void record(PlayerInput input) {
+        int held = input.getHeldMask(), pressed = input.getPressedMask();
+        if (run > 0 && (held != runHeld || pressed != runPressed)) {
+            try {
+                flushRun();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        runHeld    = held;
+        runPressed = pressed;
+        run++;
+        ticks++;
+    }
+
+    public long getTicks() { return ticks; }
+
+    /** Завершити запис і зберегти у файл */
+    public void save(FileHandle file) {
+        try {
+            flushRun();
+            writeVarInt(out, END);
+            out.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        file.writeBytes(bytes.toByteArray(), false);
+    }
+
+    private void flushRun() throws IOException {
+        if (run == 0) return;
+        writeVarInt(out, run);
+        out.writeByte(runHeld);
+        out.writeByte(runPressed);
+        run = 0;
+    }
+
+    static void writeVarInt(OutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
@@ -0,0 +1,101 @@
+package org.projectplatformer.player;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Повтор файлу {@link InputRecorder}: крок за кроком відновлює стан клавіш
+ * і повідомляє, коли потрібно завантажити рівень. Разом із тим самим зерном
+ * світу ({@link #getSeed()}) відтворює сесію тик у тик.
+ */
+public class InputReplay {
+    private final DataInputStream in;
+    private final long seed;
+
+    private int     run = 0;           // скільки кроків лишилось у поточному записі
+    private int     runHeld, runPressed;
+    private int     header = Integer.MIN_VALUE; // прочитаний наперед заголовок запису
+    private boolean finished = false;
+
+    private InputReplay(byte[] data) throws IOException {
+        in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != InputRecorder.MAGIC) throw new IOException("not an input replay");
+        int version = in.readUnsignedByte();
+        if (version != InputRecorder.VERSION) throw new IOException("unsupported replay version " + version);
+        seed = in.readLong();
+    }
+
+    public static InputReplay load(FileHandle file) {
+        try {
+            return new InputReplay(file.readBytes());
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Bad replay file: " + file.path(), e);
+        }
+    }
+
+    /** Зерно світу, з яким зроблено запис */
+    public long getSeed() { return seed; }
+
+    /**
+     * Шлях рівня, якщо перед наступним кроком у записі завантаження рівня, інакше null.
+     * Викликати перед кожним {@link #next}, поки не поверне null.
+     */
+    public String nextLevelLoad() {
+        if (run > 0 || finished) return null;
+        try {
+            if (peekHeader() != 0) return null;
+            header = Integer.MIN_VALUE;
+            return in.readUTF();
+        } catch (IOException e) {
+            finished = true;
+            return null;
+        }
+    }
+
+    /** Виставити клавіші наступного кроку; false — запис закінчився */
+    public boolean next(PlayerInput input) {
+        if (run == 0 && !finished) {
+            try {
+                int h = peekHeader();
+                if (h > 0) {
+                    header     = Integer.MIN_VALUE;
+                    run        = h;
+                    runHeld    = in.readUnsignedByte();
+                    runPressed = in.readUnsignedByte();
+                } else {
+                    // Кінець або незчитане завантаження рівня — далі не йдемо
+                    finished = h == InputRecorder.END;
+                }
+            } catch (IOException e) {
+                finished = true;
+            }
+        }
+        if (run == 0) return false;
+        run--;
+        input.setMasks(runHeld, runPressed);
+        return true;
+    }
+
+    public boolean isFinished() { return finished; }
+
+    private int peekHeader() throws IOException {
+        if (header == Integer.MIN_VALUE) header = readVarInt(in);
+        return header;
+    }
+
+    static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("malformed varint");
+    }
+}
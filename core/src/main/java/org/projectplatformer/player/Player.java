@@ -1,7 +1,5 @@
 package org.projectplatformer.player;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
@@ -9,19 +7,21 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import org.projectplatformer.animations.AnimationManager;
 import org.projectplatformer.animations.AnimationManager.State;
-import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.physics.CollisionMap;
 import org.projectplatformer.physics.PhysicsComponent;
 import org.projectplatformer.weapon.BowWeapon;
+import org.projectplatformer.weapon.ProjectileSystem;
 import org.projectplatformer.weapon.SpearWeapon;
 import org.projectplatformer.weapon.SwordWeapon;
 import org.projectplatformer.weapon.Weapon;
 
-import java.util.List;
-
 public class Player {
     private final PhysicsComponent physics;
     private final AnimationManager animationManager;
+    private final PlayerInput input;
     private Weapon currentWeapon;
+    private ProjectileSystem projectiles;
 
     private float worldWidth = Float.MAX_VALUE;
     private float worldHeight = Float.MAX_VALUE;
@@ -30,6 +30,12 @@ public class Player {
         this.worldHeight = h;
     }
 
+    /** Снаряди світу, куди лук випускає стріли */
+    public void setProjectileSystem(ProjectileSystem projectiles) {
+        this.projectiles = projectiles;
+        if (currentWeapon instanceof BowWeapon) ((BowWeapon)currentWeapon).setProjectiles(projectiles);
+    }
+
     // --- Смерть/життя ---
     private boolean isAlive = true;
     private boolean dying = false;
@@ -81,14 +87,16 @@ public class Player {
     private int coins = 0;
     private int jumpCount = 0;
 
-    public Player(float x, float y) {
+
+    public Player(float x, float y, PlayerInput input) {
+        this.input = input;
         Rectangle bounds = new Rectangle(x, y, 32, 52);
         physics = new PhysicsComponent(bounds, -1000f, -1000f, 0.9f, 16f, 200f);
         animationManager = new AnimationManager();
         currentWeapon = new SwordWeapon();
     }
 
-    private void startAttack(List<Rectangle> platforms) {
+    private void startAttack(CollisionMap platforms) {
         Rectangle b = physics.getBounds();
         float pivotX = b.x + b.width/2f;
         float pivotY = b.y + (currentWeapon instanceof SpearWeapon ? b.height / 2f : b.height * 0.7f);
@@ -99,7 +107,6 @@ public class Player {
         attackCooldown = ATTACK_COOLDOWN;
 
         if (currentWeapon instanceof BowWeapon) {
-            ((BowWeapon)currentWeapon).setPlatforms(platforms);
             animationManager.forceState(State.ATTACKBOW, facingRight);
         } else if (currentWeapon instanceof SpearWeapon) {
             currentWeapon.startAttack(pivotX, pivotY, facingRight);
@@ -110,7 +117,10 @@ public class Player {
         }
     }
 
-    public void update(float delta, List<Rectangle> platforms, List<BaseEnemy> enemies) {
+    public void update(float delta, CollisionMap platforms, World world) {
+        // Позиція на початку кроку — для інтерполяції при рендері
+        physics.savePreviousPosition();
+
         // --- Смерть та респавн ---
         if (dying) {
             animationManager.update(delta, State.DEFEAT, facingRight);
@@ -133,10 +143,7 @@ public class Player {
         dashCooldownTimer = Math.max(0f, dashCooldownTimer - delta);
         attackCooldown    = Math.max(0f, attackCooldown - delta);
 
-        if (currentWeapon instanceof BowWeapon)
-            ((BowWeapon)currentWeapon).setPlatforms(platforms);
-
-        if (Gdx.input.isKeyJustPressed(Input.Keys.J)) {
+        if (input.isJustPressed(PlayerInput.Key.ATTACK)) {
             if (!attacking) startAttack(platforms);
             else attackQueued = true;
         }
@@ -185,27 +192,23 @@ public class Player {
             physics.setVelocityX(dashDirection * DASH_SPEED);
             dashTimer -= delta;
         } else {
-            if (Gdx.input.isKeyPressed(Input.Keys.A)) { physics.setVelocityX(-MOVE_SPEED); facingRight = false; }
-            else if (Gdx.input.isKeyPressed(Input.Keys.D)) { physics.setVelocityX(MOVE_SPEED); facingRight = true; }
+            if (input.isDown(PlayerInput.Key.LEFT)) { physics.setVelocityX(-MOVE_SPEED); facingRight = false; }
+            else if (input.isDown(PlayerInput.Key.RIGHT)) { physics.setVelocityX(MOVE_SPEED); facingRight = true; }
             else physics.setVelocityX(0f);
         }
 
         // --- Wall slide / jump ---
         boolean touchingWall = false, wallOnLeft = false, wallOnRight = false;
         if (velY < 0f) {
-            for (Rectangle p : platforms) {
-                boolean verticalOverlap = b.y < p.y + p.height && b.y + b.height > p.y;
-                if (!verticalOverlap) continue;
-                float dxL = b.x - (p.x + p.width);
-                float dxR = p.x - (b.x + b.width);
-                if (Math.abs(dxL) < WALL_THRESHOLD) touchingWall = wallOnLeft = true;
-                if (Math.abs(dxR) < WALL_THRESHOLD) touchingWall = wallOnRight = true;
-            }
+            // Смуги шириною WALL_THRESHOLD впритул до лівого та правого боку тіла
+            wallOnLeft  = platforms.overlaps(b.x - WALL_THRESHOLD, b.y, WALL_THRESHOLD, b.height);
+            wallOnRight = platforms.overlaps(b.x + b.width, b.y, WALL_THRESHOLD, b.height);
+            touchingWall = wallOnLeft || wallOnRight;
         }
         boolean sliding = touchingWall && velY < 0f;
         boolean justWallJumped = false;
 
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
+        if (input.isJustPressed(PlayerInput.Key.JUMP)) {
             if (sliding) {
                 physics.setVelocityY(JUMP_SPEED + WALL_JUMP_UP);
                 jumpCount = MAX_JUMPS;
@@ -220,8 +223,8 @@ public class Player {
         if (physics.getVelocityY() == 0f) jumpCount = 0;
 
         if (sliding && !justWallJumped) {
-            boolean holdWallKey = (wallOnLeft  && Gdx.input.isKeyPressed(Input.Keys.A))
-                || (wallOnRight && Gdx.input.isKeyPressed(Input.Keys.D));
+            boolean holdWallKey = (wallOnLeft  && input.isDown(PlayerInput.Key.LEFT))
+                || (wallOnRight && input.isDown(PlayerInput.Key.RIGHT));
             if (holdWallKey) physics.startClimbing(-WALL_SLIDE_SPEED);
             else physics.stopClimbing();
         } else physics.stopClimbing();
@@ -235,18 +238,18 @@ public class Player {
         physics.update(delta, platforms);
 
         // --- Зміна зброї ---
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) currentWeapon = new SwordWeapon();
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) currentWeapon = new SpearWeapon(65f, 15f, 0.5f, 0f, 30);
-        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) currentWeapon = new BowWeapon();
+        if (input.isJustPressed(PlayerInput.Key.WEAPON_1)) currentWeapon = new SwordWeapon();
+        if (input.isJustPressed(PlayerInput.Key.WEAPON_2)) currentWeapon = new SpearWeapon(65f, 15f, 0.5f, 0f, 30);
+        if (input.isJustPressed(PlayerInput.Key.WEAPON_3)) currentWeapon = new BowWeapon();
 
-        if (currentWeapon instanceof BowWeapon) ((BowWeapon)currentWeapon).setPlatforms(platforms);
+        if (currentWeapon instanceof BowWeapon) ((BowWeapon)currentWeapon).setProjectiles(projectiles);
 
         float pivotX = b.x + b.width / 2f;
         float pivotY = b.y + (currentWeapon instanceof SpearWeapon ? b.height / 2f : b.height * 0.7f);
         currentWeapon.update(delta, pivotX, pivotY, facingRight);
 
-        if (currentWeapon instanceof BowWeapon) currentWeapon.applyDamage(enemies);
-        else if (hitboxActive) currentWeapon.applyDamage(enemies);
+        // Стріли влучають самі — у ProjectileSystem світу
+        if (hitboxActive && !(currentWeapon instanceof BowWeapon)) currentWeapon.applyDamage(world);
 
         // --- Стан анімації ---
         State newState;
@@ -267,18 +270,23 @@ public class Player {
         b.y = Math.min(b.y, worldHeight - b.height);
     }
 
+    /**
+     * Обчислити позицію для рендеру між двома кроками симуляції.
+     * @param alpha 0 — попередній крок, 1 — поточний
+     */
+    public void interpolate(float alpha) {
+        physics.interpolate(alpha);
+    }
+
     public void render(SpriteBatch batch) {
-        Rectangle b = physics.getBounds();
-        TextureRegion frame = animationManager.getCurrentFrame();
+        Rectangle b = physics.getRenderBounds();
+        TextureRegion frame = getCurrentFrame();
         float drawX = b.x, drawY = b.y, drawW = b.width, drawH = b.height;
         if (animationManager.getCurrentState() == State.ATTACKSWORD) { float extraWidth = 40f; drawW += extraWidth; if (!facingRight) drawX -= extraWidth;}
         if (animationManager.getCurrentState() == State.ATTACKSPEAR) { float extraWidth = 40f; drawW += extraWidth; if (!facingRight) drawX -= extraWidth;}
         if (animationManager.getCurrentState() == State.ATTACKBOW)   { float extraWidth = 40f; drawW += extraWidth; if (!facingRight) drawX -= extraWidth;}
 
         batch.draw(frame, drawX, drawY, drawW, drawH);
-
-        if (currentWeapon instanceof BowWeapon)
-            ((BowWeapon)currentWeapon).renderProjectiles(batch);
     }
 
     public void renderHitbox(ShapeRenderer r) {
@@ -290,15 +298,19 @@ public class Player {
             r.setColor(0f,1f,0f,1f);
             r.rect(hb.x, hb.y, hb.width, hb.height);
         }
-        if (currentWeapon instanceof BowWeapon) ((BowWeapon)currentWeapon).renderProjectiles(r);
     }
 
+    /** Кадр анімації для рендеру, вже повернутий у бік погляду */
+    public TextureRegion getCurrentFrame() { return animationManager.getCurrentFrame(); }
+
     public boolean isAlive() { return isAlive; }
     public boolean isDying() { return dying; }
     public int getHealth() { return health; }
     public int getMaxHealth() { return maxHealth; }
     public int getCoins() { return coins; }
     public Rectangle getBounds() { return physics.getBounds(); }
+    /** Інтерпольована позиція для малювання (див. {@link #interpolate(float)}) */
+    public Rectangle getRenderBounds() { return physics.getRenderBounds(); }
     public void addCoin() { coins++; }
 
     public void takeDamage(int dmg) {
@@ -321,10 +333,30 @@ public class Player {
         dying = false;
         deathTimer = 0f;
         physics.setVelocityY(0f);
+        physics.savePreviousPosition();
         jumpCount = 0;
         animationManager.forceState(State.IDLE, true);
     }
 
+    /**
+     * Стан як у щойно створеного гравця в точці (x, y): здоров'я, монети, зброя, таймери.
+     * Анімації й текстури лишаються — для перезапуску рівня і переходу на інший.
+     */
+    public void reset(float x, float y) {
+        respawn(x, y);
+        physics.setVelocityX(0f);
+        physics.stopClimbing();
+        coins = 0;
+        facingRight = true;
+        currentWeapon = new SwordWeapon();
+        attacking = attackQueued = hitboxActive = arrowReleased = false;
+        attackCooldown = damageCooldown = 0f;
+        dashTimer = dashCooldownTimer = 0f;
+        dashDirection = 0;
+        coinCollect = false;
+        collectTimer = 0f;
+    }
+
     public void coinCollectAnimation() {
         coinCollect = true;
         collectTimer = COINCOLLECT_DURATION;
@@ -0,0 +1,74 @@
+package org.projectplatformer.player;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+
+/**
+ * Стан клавіш гравця для одного кроку симуляції.
+ * Кадр рендеру може містити кілька кроків (або жодного), тож «щойно натиснуті»
+ * клавіші накопичуються між кадрами й споживаються першим кроком симуляції.
+ */
+public class PlayerInput {
+    public enum Key {
+        LEFT(Input.Keys.A),
+        RIGHT(Input.Keys.D),
+        JUMP(Input.Keys.SPACE),
+        ATTACK(Input.Keys.J),
+        WEAPON_1(Input.Keys.NUM_1),
+        WEAPON_2(Input.Keys.NUM_2),
+        WEAPON_3(Input.Keys.NUM_3);
+
+        final int keyCode;
+        final int bit;
+
+        Key(int keyCode) {
+            this.keyCode = keyCode;
+            this.bit     = 1 << ordinal();
+        }
+    }
+
+    private static final Key[] ALL_KEYS = Key.values(); // values() копіює масив на кожен виклик
+
+    private int held        = 0; // бітова маска утримуваних клавіш
+    private int justPressed = 0; // натиснуті з моменту останнього кроку
+
+    /** Зчитати клавіатуру; викликається один раз за кадр рендеру */
+    public void poll() {
+        held = 0;
+        for (Key k : ALL_KEYS) {
+            if (Gdx.input.isKeyPressed(k.keyCode))     held        |= k.bit;
+            if (Gdx.input.isKeyJustPressed(k.keyCode)) justPressed |= k.bit;
+        }
+    }
+
+    /**
+     * Задати стан клавіші без клавіатури (скрипти, headless-прогін).
+     * Перехід з відпущеної в натиснуту рахується як «щойно натиснута».
+     */
+    public void set(Key k, boolean down) {
+        if (down) {
+            if ((held & k.bit) == 0) justPressed |= k.bit;
+            held |= k.bit;
+        } else {
+            held &= ~k.bit;
+        }
+    }
+
+    /** Крок симуляції спожив натискання — наступний їх уже не побачить */
+    public void endTick() {
+        justPressed = 0;
+    }
+
+    /** Стан кроку як бітові маски (для запису вводу) */
+    public int getHeldMask()    { return held; }
+    public int getPressedMask() { return justPressed; }
+
+    /** Відновити стан кроку з бітових масок (повтор запису) */
+    public void setMasks(int heldMask, int pressedMask) {
+        held        = heldMask;
+        justPressed = pressedMask;
+    }
+
+    public boolean isDown(Key k)        { return (held & k.bit) != 0; }
+    public boolean isJustPressed(Key k) { return (justPressed & k.bit) != 0; }
+}
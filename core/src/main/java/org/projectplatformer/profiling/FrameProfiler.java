@@ -0,0 +1,215 @@
+package org.projectplatformer.profiling;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.Arrays;
+
+/**
+ * Профайлер кадру з оверлеєм (вмикається клавішею у Main).
+ * Кожна фаза кадру міряється System.nanoTime; за кадр час фази сумується
+ * (симуляція може зробити кілька кроків) і йде в кільцевий буфер на
+ * {@link #HISTORY} кадрів. Оверлей показує середнє та p99 по кожній фазі,
+ * графік часу кадру, статистику SpriteBatch і кількість сутностей.
+ *
+ * Вимкнений профайлер нічого не міряє — begin/end лише перевіряють прапорець.
+ * Незалежно від оверлею кожна фаза стає JFR-подією, якщо {@link GameEvents#ENABLED}.
+ */
+public class FrameProfiler {
+    public enum Phase {
+        INPUT("input"),
+        PLAYER("player"),
+        WORLD("world"),
+        COINS("coins"),
+        MAP("map"),
+        SPRITES("sprites"),
+        DEBUG("debug shapes"),
+        HUD("hud"),
+        UI("ui");
+
+        final String label;
+
+        Phase(String label) { this.label = label; }
+    }
+
+    public static final int HISTORY = 240;
+    private static final Phase[] ALL_PHASES = Phase.values();
+    private static final int     PHASES     = ALL_PHASES.length;
+
+    // Графік: 1 px на кадр, висота BUDGET_PX відповідає 1/60 с
+    private static final float BUDGET_NS = 1e9f / 60f;
+    private static final float BUDGET_PX = 40f;
+    private static final float PANEL_W   = HISTORY + 16f;
+    private static final float LINE_H    = 14f;
+
+    private boolean enabled = false;
+
+    private final long[][] phaseRing = new long[PHASES][HISTORY];
+    private final long[]   frameRing = new long[HISTORY];
+    private final long[]   current   = new long[PHASES];
+    private final long[]   started   = new long[PHASES];
+    private final long[]   scratch   = new long[HISTORY];
+    private final Object[] spans     = new Object[PHASES];
+    private long frameStart;
+    private int  head  = 0;  // куди піде наступний кадр
+    private int  count = 0;  // скільки кадрів у буферах
+
+    // Лічильники, які Main передає за кадр
+    private int renderCalls, maxSpritesInBatch;
+    private int enemies, visibleEnemies, objects, projectiles;
+
+    private final Matrix4       screen = new Matrix4();
+    private final StringBuilder text   = new StringBuilder(64);
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) reset();
+    }
+
+    public void toggle() { setEnabled(!enabled); }
+
+    public void beginFrame() {
+        if (!enabled) return;
+        Arrays.fill(current, 0L);
+        renderCalls = 0;
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(Phase p) {
+        if (GameEvents.ENABLED) spans[p.ordinal()] = GameEvents.begin(GameEvents.Type.FRAME_PHASE);
+        if (enabled) started[p.ordinal()] = System.nanoTime();
+    }
+
+    public void end(Phase p) {
+        if (enabled) current[p.ordinal()] += System.nanoTime() - started[p.ordinal()];
+        if (GameEvents.ENABLED) {
+            GameEvents.framePhase(spans[p.ordinal()], p.label);
+            spans[p.ordinal()] = null;
+        }
+    }
+
+    /**
+     * Додати виклики відмальовки одного проходу. SpriteBatch і SpriteCache
+     * обнуляють renderCalls у begin(), тож додавати після кожного проходу.
+     */
+    public void addRenderCalls(int calls) {
+        renderCalls += calls;
+    }
+
+    /** Найбільша кількість спрайтів в одному зливанні SpriteBatch за кадр */
+    public void setMaxSpritesInBatch(int maxSpritesInBatch) {
+        this.maxSpritesInBatch = maxSpritesInBatch;
+    }
+
+    public void setEntityCounts(int enemies, int visibleEnemies, int objects, int projectiles) {
+        this.enemies        = enemies;
+        this.visibleEnemies = visibleEnemies;
+        this.objects        = objects;
+        this.projectiles    = projectiles;
+    }
+
+    /** Закрити кадр: фази й загальний час — у кільцеві буфери */
+    public void endFrame() {
+        if (!enabled) return;
+        frameRing[head] = System.nanoTime() - frameStart;
+        for (int i = 0; i < PHASES; i++) phaseRing[i][head] = current[i];
+        head = (head + 1) % HISTORY;
+        if (count < HISTORY) count++;
+    }
+
+    public double averageMs(Phase p) { return averageMs(phaseRing[p.ordinal()]); }
+    public double p99Ms(Phase p)     { return p99Ms(phaseRing[p.ordinal()]); }
+
+    /**
+     * Оверлей у лівому нижньому куті екрана. Викликати поза begin/end батчу
+     * та ShapeRenderer; їхні матриці проєкції після виклику треба задати знову.
+     */
+    public void render(SpriteBatch batch, ShapeRenderer shapes, BitmapFont font) {
+        if (!enabled || count == 0) return;
+        screen.setToOrtho2D(0f, 0f, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        float x = 8f, y = 8f;
+        float textH = (PHASES + 4) * LINE_H;
+        float panelH = BUDGET_PX * 2f + textH + 16f;
+
+        // Фон і графік часу кадру
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        shapes.setProjectionMatrix(screen);
+        shapes.begin(ShapeRenderer.ShapeType.Filled);
+        shapes.setColor(0f, 0f, 0f, 0.6f);
+        shapes.rect(x - 4f, y - 4f, PANEL_W, panelH);
+        for (int i = 0; i < count; i++) {
+            int idx = (head - count + i + HISTORY) % HISTORY;
+            float h = Math.min(frameRing[idx] / BUDGET_NS * BUDGET_PX, BUDGET_PX * 2f);
+            if (frameRing[idx] > BUDGET_NS) shapes.setColor(1f, 0.3f, 0.2f, 1f);
+            else shapes.setColor(0.3f, 0.9f, 0.3f, 1f);
+            shapes.rect(x + i, y, 1f, h);
+        }
+        shapes.setColor(1f, 1f, 0f, 1f);
+        shapes.rect(x, y + BUDGET_PX, HISTORY, 1f); // межа 60 FPS
+        shapes.end();
+
+        // Текст: кадр, фази, батч, сутності
+        batch.setProjectionMatrix(screen);
+        batch.begin();
+        float ty = y + BUDGET_PX * 2f + textH;
+        text.setLength(0);
+        text.append("frame  avg ");
+        appendMs(averageMs(frameRing)).append("  p99 ");
+        appendMs(p99Ms(frameRing));
+        font.draw(batch, text, x, ty);
+        ty -= LINE_H;
+        for (Phase p : ALL_PHASES) {
+            text.setLength(0);
+            text.append(p.label).append("  ");
+            appendMs(averageMs(p)).append(" / ");
+            appendMs(p99Ms(p));
+            font.draw(batch, text, x, ty);
+            ty -= LINE_H;
+        }
+        text.setLength(0);
+        text.append("render calls ").append(renderCalls).append("  max sprites ").append(maxSpritesInBatch);
+        font.draw(batch, text, x, ty);
+        ty -= LINE_H;
+        text.setLength(0);
+        text.append("enemies ").append(visibleEnemies).append('/').append(enemies)
+            .append("  objects ").append(objects).append("  projectiles ").append(projectiles);
+        font.draw(batch, text, x, ty);
+        batch.end();
+    }
+
+    private double averageMs(long[] ring) {
+        long sum = 0L;
+        for (int i = 0; i < count; i++) sum += ring[(head - count + i + HISTORY) % HISTORY];
+        return sum / (double) count / 1e6;
+    }
+
+    private double p99Ms(long[] ring) {
+        for (int i = 0; i < count; i++) scratch[i] = ring[(head - count + i + HISTORY) % HISTORY];
+        Arrays.sort(scratch, 0, count);
+        int idx = Math.max(0, (int) Math.ceil(0.99 * count) - 1);
+        return scratch[idx] / 1e6;
+    }
+
+    /** Мілісекунди з двома знаками без String.format (без сміття за кадр) */
+    private StringBuilder appendMs(double ms) {
+        long hundredths = Math.round(ms * 100.0);
+        text.append(hundredths / 100).append('.');
+        long frac = hundredths % 100;
+        if (frac < 10) text.append('0');
+        return text.append(frac).append("ms");
+    }
+
+    private void reset() {
+        head  = 0;
+        count = 0;
+        for (long[] ring : phaseRing) Arrays.fill(ring, 0L);
+        Arrays.fill(frameRing, 0L);
+    }
+}
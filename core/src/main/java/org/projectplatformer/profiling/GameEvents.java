@@ -0,0 +1,64 @@
+package org.projectplatformer.profiling;
+
+/**
+ * Події гри для Java Flight Recorder: фази кадру, завантаження рівня,
+ * завантаження анімацій, збереження/завантаження сейвів.
+ *
+ * Ядро збирається під Java 8, де jdk.jfr недоступний, тож самі JFR-події
+ * живуть у модулі {@code :jfr} (Java 11+) і підключаються тут через рефлексію.
+ * Якщо модуля немає, JVM стара або JFR вимкнено — працює порожня реалізація,
+ * а {@link #ENABLED} = false дозволяє JIT прибрати виклики повністю.
+ *
+ * Використання: {@code Object span = GameEvents.begin(Type.X); ...; GameEvents.x(span, ...)}.
+ * Запис сесії: {@code -XX:StartFlightRecording=filename=game.jfr}.
+ */
+public final class GameEvents {
+    public enum Type { FRAME_PHASE, LEVEL_LOAD, ANIMATION_LOAD, SAVE_WRITE, SAVE_READ }
+
+    /** Реалізація подій; span — об'єкт, повернутий {@link #begin}, або null */
+    public interface Sink {
+        Object begin(Type type);
+        void framePhase(Object span, String phase);
+        void levelLoad(Object span, String map, int platforms, int coins, int enemies);
+        void animationLoad(Object span, String path, int frames, boolean fromAtlas);
+        void save(Object span, String file, long bytes);
+    }
+
+    private static final String JFR_SINK = "org.projectplatformer.jfr.JfrEventSink";
+
+    private static final Sink    SINK    = createSink();
+    public  static final boolean ENABLED = SINK != null;
+
+    private GameEvents() {}
+
+    private static Sink createSink() {
+        try {
+            return (Sink) Class.forName(JFR_SINK).getDeclaredConstructor().newInstance();
+        } catch (Throwable t) {
+            // Немає модуля :jfr або JVM без jdk.jfr (Java 8) — подій не буде
+            return null;
+        }
+    }
+
+    /** Почати подію; null, якщо події вимкнено */
+    public static Object begin(Type type) {
+        return ENABLED ? SINK.begin(type) : null;
+    }
+
+    public static void framePhase(Object span, String phase) {
+        if (span != null) SINK.framePhase(span, phase);
+    }
+
+    public static void levelLoad(Object span, String map, int platforms, int coins, int enemies) {
+        if (span != null) SINK.levelLoad(span, map, platforms, coins, enemies);
+    }
+
+    public static void animationLoad(Object span, String path, int frames, boolean fromAtlas) {
+        if (span != null) SINK.animationLoad(span, path, frames, fromAtlas);
+    }
+
+    /** Завершити подію SAVE_WRITE або SAVE_READ */
+    public static void save(Object span, String file, long bytes) {
+        if (span != null) SINK.save(span, file, bytes);
+    }
+}
@@ -1,21 +1,22 @@
 package org.projectplatformer.weapon;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
+import org.projectplatformer.EnemiesAnimation.EnemyAnimationRegistry;
 import org.projectplatformer.enemy.BaseEnemy;
 import org.projectplatformer.player.Player;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
  * Лук: стріли летять по простій балістичній траєкторії,
  * малюються як спрайт та зникають при попаданні у ворога чи платформу.
+ * Самі стріли живуть у {@link ProjectileSystem} світу.
  */
 public class BowWeapon implements Weapon {
+    /** Спрайт стріли в атласі / assets (без .png) */
+    public static final String ARROW_SPRITE = "Player/arrow";
+
     // --- Основні поля ---
     private final float cooldown;
     private float cooldownTimer = 0f;
@@ -26,29 +27,14 @@ public class BowWeapon implements Weapon {
     private final float maxRange;
     private final int damage;
 
-    // --- Платформи для перевірки колізії ---
-    private List<Rectangle> worldPlatforms = null;
-    public void setPlatforms(List<Rectangle> platforms) {
-        this.worldPlatforms = platforms;
+    // --- Снаряди світу: стріли летять і влучають уже там ---
+    private ProjectileSystem projectiles = null;
+    public void setProjectiles(ProjectileSystem projectiles) {
+        this.projectiles = projectiles;
     }
 
-    // --- Текстура стріли ---
-    private static final Texture arrowTexture = new Texture("arrow.png");
-
-    // --- Активні стріли ---
-    private final List<Projectile> arrows = new ArrayList<>();
-    private static class Projectile {
-        Rectangle hitbox;
-        float     vx, vy;
-        float     travelled = 0f;
-        boolean   facingRight;
-        Projectile(Rectangle hb, float vx, float vy, boolean facingRight) {
-            this.hitbox = hb;
-            this.vx = vx;
-            this.vy = vy;
-            this.facingRight = facingRight;
-        }
-    }
+    // --- Текстура стріли (з атласу, якщо він є); нею володіє EnemyAnimationRegistry ---
+    private final TextureRegion arrowTexture;
 
     // --- Конструктори ---
     public BowWeapon(float cooldown,
@@ -66,6 +52,7 @@ public class BowWeapon implements Weapon {
         this.arrowH         = h;
         this.maxRange       = maxRange;
         this.damage         = damage;
+        this.arrowTexture   = EnemyAnimationRegistry.sprite(ARROW_SPRITE);
     }
 
     /** Стандартний лук */
@@ -88,7 +75,7 @@ public class BowWeapon implements Weapon {
 
     /** Викликається з Player у певний момент анімації */
     public void releaseArrow(float pivotX, float pivotY, boolean facingRight) {
-        if (cooldownTimer > 0f) return;
+        if (cooldownTimer > 0f || projectiles == null) return;
         cooldownTimer = cooldown;
 
         double ang = Math.toRadians(launchAngleDeg);
@@ -97,102 +84,31 @@ public class BowWeapon implements Weapon {
 
         float x = facingRight ? pivotX : pivotX - arrowW;
         float y = pivotY - arrowH/2f;
-        Rectangle hb = new Rectangle(x, y, arrowW, arrowH);
 
-        arrows.add(new Projectile(hb, vx, vy, facingRight));
+        projectiles.spawn(Projectile.Faction.PLAYER, x, y, arrowW, arrowH,
+            vx, vy, GRAVITY, damage, maxRange, arrowTexture, facingRight);
     }
 
     @Override
     public void update(float delta, float pivotX, float pivotY, boolean facingRight) {
         cooldownTimer = Math.max(0f, cooldownTimer - delta);
-
-        Iterator<Projectile> it = arrows.iterator();
-        while (it.hasNext()) {
-            Projectile p = it.next();
-            p.vy -= GRAVITY * delta;
-            float dx = p.vx * delta;
-            float dy = p.vy * delta;
-
-            p.hitbox.x += dx;
-            p.hitbox.y += dy;
-            p.travelled += Math.sqrt(dx*dx + dy*dy);
-
-            // --- ЗНИКНЕННЯ СТРІЛИ ПРИ ПОПАДАННІ В ПЛАТФОРМУ ---
-            boolean touchedPlatform = false;
-            if (worldPlatforms != null) {
-                for (Rectangle plat : worldPlatforms) {
-                    if (p.hitbox.overlaps(plat)) {
-                        touchedPlatform = true;
-                        break;
-                    }
-                }
-            }
-            // Видаляємо, якщо зіткнулась з платформою, вилетіла за межу, чи нижче екрану
-            if (touchedPlatform || p.travelled >= maxRange || p.hitbox.y + p.hitbox.height < 0) {
-                it.remove();
-            }
-        }
     }
 
+    /** Стріли не мають хітбокса зброї — їх показує {@link ProjectileSystem} */
     @Override
     public Rectangle getHitbox() {
-        return arrows.isEmpty() ? null : arrows.get(0).hitbox;
+        return null;
     }
 
+    /** Влучання стріл рахує {@link ProjectileSystem} */
     @Override
-    public void applyDamage(List<BaseEnemy> enemies) {
-        Iterator<Projectile> it = arrows.iterator();
-        while (it.hasNext()) {
-            Projectile p = it.next();
-            for (BaseEnemy e : enemies) {
-                if (e.isAlive() && p.hitbox.overlaps(e.getBounds())) {
-                    e.takeDamage(damage);
-                    it.remove();
-                    break;
-                }
-            }
-        }
-    }
+    public void applyDamage(List<BaseEnemy> enemies) {}
 
     @Override
-    public void applyDamage(Player player) {
-        Iterator<Projectile> it = arrows.iterator();
-        while (it.hasNext()) {
-            Projectile p = it.next();
-            if (player.isAlive() && p.hitbox.overlaps(player.getBounds())) {
-                player.takeDamage(damage);
-                it.remove();
-                break;
-            }
-        }
-    }
+    public void applyDamage(Player player) {}
 
     @Override
     public float getCooldownRemaining() {
         return cooldownTimer;
     }
-
-    /** Малює всі стріли як спрайти (SpriteBatch) */
-    public void renderProjectiles(SpriteBatch batch) {
-        for (Projectile p : arrows) {
-            float drawX = p.hitbox.x;
-            float drawY = p.hitbox.y;
-            float drawW = p.hitbox.width;
-            float drawH = p.hitbox.height;
-            if (p.facingRight) {
-                batch.draw(arrowTexture, drawX, drawY, drawW, drawH);
-            } else {
-                batch.draw(arrowTexture, drawX + drawW, drawY, -drawW, drawH);
-            }
-        }
-    }
-
-    /** Для дебагу (опційно) */
-    public void renderProjectiles(ShapeRenderer r) {
-        r.setColor(0f, 1f, 0f, 1f);
-        for (Projectile p : arrows) {
-            Rectangle hb = p.hitbox;
-            r.rect(hb.x, hb.y, hb.width, hb.height);
-        }
-    }
 }
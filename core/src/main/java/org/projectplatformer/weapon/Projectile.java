@@ -0,0 +1,116 @@
+package org.projectplatformer.weapon;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import org.projectplatformer.physics.CollisionMap;
+import org.projectplatformer.physics.SweptAabb;
+
+/**
+ * Снаряд (стріла, фаєрбол). Екземпляри беруться з {@link #POOL} і
+ * повертаються туди після влучання, тож стрільба не створює сміття.
+ * Активні снаряди зберігаються у невпорядкованому {@link Array}
+ * і прибираються через swap-remove ({@link #release}).
+ */
+public class Projectile implements Pool.Poolable {
+    /** Спільний пул снарядів */
+    public static final Pool<Projectile> POOL = new Pool<Projectile>(32, 512) {
+        @Override
+        protected Projectile newObject() {
+            return new Projectile();
+        }
+    };
+
+    public final Rectangle hitbox = new Rectangle();
+    public float   vx, vy;
+    public float   gravity;     // прискорення вниз, px/s²
+    public float   travelled;   // пройдений шлях, px
+    public int     damage;
+    public boolean facingRight;
+    public TextureRegion sprite;
+    public Faction faction   = Faction.PLAYER;
+    public float   maxRange  = Float.MAX_VALUE; // після цього шляху снаряд зникає, px
+
+    /** Чий снаряд: гравця б'є ворогів, ворожий — гравця */
+    public enum Faction { PLAYER, ENEMY }
+
+    /** Взяти снаряд з пулу й налаштувати */
+    public static Projectile obtain(float x, float y, float w, float h,
+                                    float vx, float vy, float gravity,
+                                    int damage, TextureRegion sprite, boolean facingRight) {
+        Projectile p = POOL.obtain();
+        p.hitbox.set(x, y, w, h);
+        p.vx          = vx;
+        p.vy          = vy;
+        p.gravity     = gravity;
+        p.damage      = damage;
+        p.facingRight = facingRight;
+        p.sprite      = sprite;
+        return p;
+    }
+
+    /** Прибрати снаряд i з масиву (swap-remove) і повернути в пул */
+    public static void release(Array<Projectile> active, int i) {
+        POOL.free(active.removeIndex(i));
+    }
+
+    /** Повернути в пул усі активні снаряди */
+    public static void releaseAll(Array<Projectile> active) {
+        POOL.freeAll(active);
+        active.clear();
+    }
+
+    /**
+     * Крок польоту з неперервною перевіркою платформ.
+     * @return true, якщо снаряд торкнувся платформи (він зупиняється в точці дотику)
+     */
+    public boolean step(float delta, CollisionMap platforms, SweptAabb sweeper, SweptAabb.Hit hit) {
+        vy -= gravity * delta;
+        float dx = vx * delta;
+        float dy = vy * delta;
+
+        boolean hitWall = false;
+        float   t       = 1f;
+        if (platforms != null) {
+            if (platforms.overlaps(hitbox)) {
+                hitWall = true;
+                t = 0f;
+            } else if (sweeper.cast(platforms, hitbox, dx, dy, hit)) {
+                hitWall = true;
+                t = hit.time;
+            }
+        }
+        hitbox.x  += dx * t;
+        hitbox.y  += dy * t;
+        travelled += (float) Math.sqrt(dx * dx + dy * dy) * t;
+        return hitWall;
+    }
+
+    public void render(SpriteBatch batch) {
+        if (sprite == null) return;
+        Rectangle b = hitbox;
+        if (facingRight) {
+            batch.draw(sprite, b.x, b.y, b.width, b.height);
+        } else {
+            batch.draw(sprite, b.x + b.width, b.y, -b.width, b.height);
+        }
+    }
+
+    public void renderHitbox(ShapeRenderer r) {
+        r.rect(hitbox.x, hitbox.y, hitbox.width, hitbox.height);
+    }
+
+    @Override
+    public void reset() {
+        hitbox.set(0f, 0f, 0f, 0f);
+        vx = vy = gravity = travelled = 0f;
+        damage      = 0;
+        facingRight = true;
+        sprite      = null;
+        faction     = Faction.PLAYER;
+        maxRange    = Float.MAX_VALUE;
+    }
+}
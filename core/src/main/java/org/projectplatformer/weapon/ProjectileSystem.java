@@ -0,0 +1,155 @@
+package org.projectplatformer.weapon;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.objectslogic.SpatialHash;
+import org.projectplatformer.physics.CollisionMap;
+import org.projectplatformer.physics.SweptAabb;
+import org.projectplatformer.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Усі снаряди світу (стріли гравця, фаєрболи ворогів) в одному масиві.
+ * Один прохід за крок: політ із неперервною перевіркою платформ, потім
+ * влучання — у ворогів через просторовий індекс (лише ті, що поруч зі
+ * снарядом), у гравця — простим перетином. Кожне влучання повідомляється
+ * слухачам як {@link HitEvent}.
+ */
+public class ProjectileSystem {
+    /** Влучання снаряда; об'єкт перевикористовується — не зберігайте посилання */
+    public static final class HitEvent {
+        public enum Type { PLATFORM, ENEMY, PLAYER }
+
+        public Type       type;
+        public Projectile projectile;
+        public BaseEnemy  enemy;     // лише для ENEMY
+        public float      x, y;      // центр снаряда в момент влучання
+        public int        damage;    // 0 для PLATFORM
+    }
+
+    public interface HitListener {
+        void onHit(HitEvent event);
+    }
+
+    private final Array<Projectile>  active    = new Array<>(false, 32);
+    private final List<HitListener>  listeners = new ArrayList<>();
+    private final HitEvent           event     = new HitEvent();
+
+    private final SweptAabb          sweeper = new SweptAabb();
+    private final SweptAabb.Hit      hit     = new SweptAabb.Hit();
+    private final List<BaseEnemy>    nearby  = new ArrayList<>();
+
+    // Межі світу по X: снаряди, що вилетіли за них, прибираються
+    private float worldWidth = Float.MAX_VALUE;
+
+    public void setWorldWidth(float width) { this.worldWidth = width; }
+
+    public void addListener(HitListener l)    { listeners.add(l); }
+    public void removeListener(HitListener l) { listeners.remove(l); }
+
+    /** Випустити снаряд; параметри — як у {@link Projectile#obtain} */
+    public Projectile spawn(Projectile.Faction faction,
+                            float x, float y, float w, float h,
+                            float vx, float vy, float gravity,
+                            int damage, float maxRange, TextureRegion sprite, boolean facingRight) {
+        Projectile p = Projectile.obtain(x, y, w, h, vx, vy, gravity, damage, sprite, facingRight);
+        p.faction  = faction;
+        p.maxRange = maxRange;
+        active.add(p);
+        return p;
+    }
+
+    /**
+     * Крок усіх снарядів.
+     * @param enemies індекс ворогів світу (для влучань снарядів гравця)
+     */
+    public void update(float delta, CollisionMap platforms, Player player, SpatialHash<BaseEnemy> enemies) {
+        for (int i = active.size - 1; i >= 0; i--) {
+            Projectile p = active.get(i);
+
+            // Платформи: снаряд зупиняється в точці дотику і зникає
+            if (p.step(delta, platforms, sweeper, hit)) {
+                fire(HitEvent.Type.PLATFORM, p, null, 0);
+                Projectile.release(active, i);
+                continue;
+            }
+
+            if (p.faction == Projectile.Faction.PLAYER) {
+                BaseEnemy target = firstEnemyHit(p, enemies);
+                if (target != null) {
+                    target.takeDamage(p.damage);
+                    fire(HitEvent.Type.ENEMY, p, target, p.damage);
+                    Projectile.release(active, i);
+                    continue;
+                }
+            } else if (player != null && player.isAlive() && p.hitbox.overlaps(player.getBounds())) {
+                player.takeDamage(p.damage);
+                fire(HitEvent.Type.PLAYER, p, null, p.damage);
+                Projectile.release(active, i);
+                continue;
+            }
+
+            // Вилетів за межу дальності, за краї світу чи нижче карти
+            Rectangle b = p.hitbox;
+            if (p.travelled >= p.maxRange
+                || b.x + b.width < 0f || b.x > worldWidth
+                || b.y + b.height < 0f) {
+                Projectile.release(active, i);
+            }
+        }
+    }
+
+    private BaseEnemy firstEnemyHit(Projectile p, SpatialHash<BaseEnemy> enemies) {
+        if (enemies == null) return null;
+        enemies.query(p.hitbox, nearby);
+        for (int j = 0; j < nearby.size(); j++) {
+            BaseEnemy e = nearby.get(j);
+            if (e.isAlive()) return e;
+        }
+        return null;
+    }
+
+    private void fire(HitEvent.Type type, Projectile p, BaseEnemy enemy, int damage) {
+        if (listeners.isEmpty()) return;
+        event.type       = type;
+        event.projectile = p;
+        event.enemy      = enemy;
+        event.x          = p.hitbox.x + p.hitbox.width  / 2f;
+        event.y          = p.hitbox.y + p.hitbox.height / 2f;
+        event.damage     = damage;
+        for (int i = 0; i < listeners.size(); i++) listeners.get(i).onHit(event);
+        event.projectile = null;
+        event.enemy      = null;
+    }
+
+    /** Малює снаряди, що перетинають видиму область */
+    public void render(SpriteBatch batch, Rectangle view) {
+        for (int i = 0; i < active.size; i++) {
+            Projectile p = active.get(i);
+            if (view == null || p.hitbox.overlaps(view)) p.render(batch);
+        }
+    }
+
+    /** Для дебагу: стріли гравця — зелені, ворожі снаряди — помаранчеві */
+    public void renderHitboxes(ShapeRenderer r) {
+        for (int i = 0; i < active.size; i++) {
+            Projectile p = active.get(i);
+            if (p.faction == Projectile.Faction.PLAYER) r.setColor(0f, 1f, 0f, 1f);
+            else r.setColor(1f, 0.5f, 0f, 1f);
+            p.renderHitbox(r);
+        }
+    }
+
+    public int size() { return active.size; }
+
+    /** Повернути всі снаряди в пул (зміна рівня) */
+    public void clear() {
+        Projectile.releaseAll(active);
+    }
+}
@@ -2,6 +2,7 @@ package org.projectplatformer.weapon;
 
 import com.badlogic.gdx.math.Rectangle;
 import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.objectslogic.World;
 import org.projectplatformer.player.Player;
 
 import java.util.List;
@@ -46,6 +47,19 @@ public interface Weapon {
      */
     void applyDamage(List<BaseEnemy> enemies);
 
+    /**
+     * Нанести шкоду лише ворогам, що перетинають hitbox: світ повертає їх
+     * зі свого просторового індексу, тож ціна удару не залежить
+     * від загальної кількості ворогів.
+     *
+     * @param world світ із індексом ворогів
+     */
+    default void applyDamage(World world) {
+        Rectangle hb = getHitbox();
+        if (hb == null) return;
+        applyDamage(world.queryEnemies(hb));
+    }
+
     /**
      * Нанести шкоду гравцю (користується у ворогів).
      *
@@ -0,0 +1,32 @@
+package org.projectplatformer.headless;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import org.projectplatformer.player.InputReplay;
+
+import java.io.File;
+
+/**
+ * Запуск симуляції рівня без вікна: для вимірювань на машинах без GPU/дисплея.
+ * Аргументи: [карта відносно assets | файл *.replay] [тиків] [тиків розігріву].
+ * Запис робиться грою з -Dreplay.record=файл.
+ */
+public class HeadlessSimLauncher {
+    private static final String DEFAULT_MAP    = "Levels/Maps/Level1.tmx";
+    private static final int    DEFAULT_TICKS  = 20000;
+    private static final int    DEFAULT_WARMUP = 2000;
+
+    public static void main(String[] args) {
+        String map    = args.length > 0 ? args[0] : DEFAULT_MAP;
+        int    ticks  = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+        int    warmup = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_WARMUP;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = -1; // render() не потрібен — усе робиться в create()
+        SimBenchmark bench = map.endsWith(".replay")
+            ? new SimBenchmark(InputReplay.load(new FileHandle(new File(map).getAbsoluteFile())), ticks, warmup)
+            : new SimBenchmark(map, ticks, warmup);
+        new HeadlessApplication(bench, config);
+    }
+}
@@ -0,0 +1,33 @@
+package org.projectplatformer.headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Заглушка GL20: кожен виклик нічого не робить і повертає нуль/false/null.
+ * Потрібна, бо рівень і анімації створюють Texture, а headless-бекенд GL не має.
+ */
+public final class NoopGL {
+    private NoopGL() {}
+
+    public static void install() {
+        GL20 gl = (GL20) Proxy.newProxyInstance(
+            GL20.class.getClassLoader(),
+            new Class<?>[] { GL20.class },
+            (proxy, method, args) -> defaultValue(method.getReturnType())
+        );
+        Gdx.gl   = gl;
+        Gdx.gl20 = gl;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class)     return 0;
+        if (type == float.class)   return 0f;
+        if (type == long.class)    return 0L;
+        if (type == double.class)  return 0d;
+        return null;
+    }
+}
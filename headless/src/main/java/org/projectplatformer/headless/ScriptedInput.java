@@ -0,0 +1,30 @@
+package org.projectplatformer.headless;
+
+import org.projectplatformer.player.PlayerInput;
+import org.projectplatformer.player.PlayerInput.Key;
+
+/**
+ * Детермінований «гравець» для прогону: біжить то праворуч, то ліворуч,
+ * стрибає, б'є і міняє зброю за розкладом від номера тика.
+ * Той самий номер тика завжди дає ті самі клавіші.
+ */
+class ScriptedInput {
+    private static final int RUN_PHASE    = 600; // тиків в один бік
+    private static final int JUMP_EVERY   = 90;
+    private static final int ATTACK_EVERY = 45;
+    private static final int WEAPON_EVERY = 1200;
+
+    /** Виставити клавіші для тика */
+    void apply(int tick, PlayerInput in) {
+        boolean right = (tick / RUN_PHASE) % 2 == 0;
+        in.set(Key.RIGHT, right);
+        in.set(Key.LEFT, !right);
+        in.set(Key.JUMP,   tick % JUMP_EVERY < 2);
+        in.set(Key.ATTACK, tick % ATTACK_EVERY == 0);
+
+        int weapon = (tick / WEAPON_EVERY) % 3;
+        in.set(Key.WEAPON_1, weapon == 0 && tick % WEAPON_EVERY == 0);
+        in.set(Key.WEAPON_2, weapon == 1 && tick % WEAPON_EVERY == 0);
+        in.set(Key.WEAPON_3, weapon == 2 && tick % WEAPON_EVERY == 0);
+    }
+}
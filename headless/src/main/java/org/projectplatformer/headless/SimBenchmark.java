@@ -0,0 +1,242 @@
+package org.projectplatformer.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.MathUtils;
+import org.projectplatformer.EnemiesAnimation.EnemyAnimationRegistry;
+import org.projectplatformer.Simulation;
+import org.projectplatformer.animations.GameAtlas;
+import org.projectplatformer.enemy.BaseEnemy;
+import org.projectplatformer.levellogic.TiledLevel;
+import org.projectplatformer.objectslogic.World;
+import org.projectplatformer.player.InputReplay;
+import org.projectplatformer.player.Player;
+import org.projectplatformer.player.PlayerInput;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Прогін рівня фіксованими кроками зі скриптованим вводом або з запису
+ * ({@link InputReplay}). Міряє лише крок симуляції (без завантаження
+ * і перезапусків після смерті): тиків за секунду, p50/p99 часу тика
+ * та швидкість алокацій.
+ *
+ * Після виміру — перевірка кадрів анімації: getCurrentFrame гравця й усіх ворогів
+ * на {@link #FRAME_CHECK} кадрах не має алокувати жодного байта (інакше прогін падає).
+ */
+public class SimBenchmark extends ApplicationAdapter {
+    private static final int FRAME_CHECK = 2000;
+
+    private String       mapPath;
+    private final InputReplay replay; // null — скриптований ввід
+    private final int    ticks;
+    private final int    warmup;
+
+    private AssetManager assets;
+    private TiledLevel   level;
+    private Simulation   simulation;
+    private final PlayerInput    input  = new PlayerInput();
+    private final ScriptedInput  script = new ScriptedInput();
+
+    public SimBenchmark(String mapPath, int ticks, int warmup) {
+        this(mapPath, null, ticks, warmup);
+    }
+
+    /** Повтор запису: рівні й зерно беруться з нього, ticks — верхня межа */
+    public SimBenchmark(InputReplay replay, int ticks, int warmup) {
+        this(null, replay, ticks, warmup);
+    }
+
+    private SimBenchmark(String mapPath, InputReplay replay, int ticks, int warmup) {
+        this.mapPath = mapPath;
+        this.replay  = replay;
+        this.ticks   = ticks;
+        this.warmup  = warmup;
+    }
+
+    @Override
+    public void create() {
+        NoopGL.install();
+        assets = new AssetManager();
+        assets.load("Levels/Images/default.png", Texture.class);
+        assets.load("Levels/Images/coin.png",    Texture.class);
+        EnemyAnimationRegistry.init(assets);
+        assets.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        if (mapPath != null) assets.load(mapPath, TiledMap.class);
+        assets.finishLoading();
+
+        try {
+            run();
+        } finally {
+            Gdx.app.exit(); // бекенд далі викличе dispose()
+        }
+    }
+
+    private void run() {
+        if (replay != null) {
+            if (!loadReplayLevels()) throw new IllegalStateException("replay starts without a level");
+        } else {
+            loadLevel();
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocs = threads instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) threads : null;
+        long threadId = Thread.currentThread().getId();
+
+        long[] times = new long[ticks];
+        long   allocated = 0L;
+        int    restarts  = 0;
+        int    measuredTicks = 0;
+
+        for (int tick = 0; tick < warmup + ticks; tick++) {
+            boolean measured = tick >= warmup;
+            if (replay != null) {
+                if (loadReplayLevels()) restarts++;
+                if (!replay.next(input)) break;
+            } else {
+                script.apply(tick, input);
+            }
+
+            long bytesBefore = measured && allocs != null ? allocs.getThreadAllocatedBytes(threadId) : 0L;
+            long start = System.nanoTime();
+            simulation.step(Simulation.STEP);
+            long elapsed = System.nanoTime() - start;
+            if (measured) {
+                times[measuredTicks++] = elapsed;
+                if (allocs != null) allocated += allocs.getThreadAllocatedBytes(threadId) - bytesBefore;
+            }
+            input.endTick();
+
+            // Скрипт не ухиляється — після смерті починаємо рівень заново (поза виміром);
+            // у записі перезапуски вже є
+            if (replay == null && !simulation.getPlayer().isAlive()) {
+                loadLevel();
+                restarts++;
+            }
+        }
+
+        if (measuredTicks == 0) {
+            System.out.println("replay shorter than warmup (" + warmup + " ticks), nothing measured");
+            return;
+        }
+        report(Arrays.copyOf(times, measuredTicks), allocated, allocs != null, restarts);
+        if (allocs != null) checkFrameAllocations(allocs, threadId);
+    }
+
+    /**
+     * Кадр за кадром: крок симуляції (поза виміром), потім кадри анімації
+     * гравця й ворогів — так, як їх бере рендер. Кадри мають бути спільними
+     * й готовими заздалегідь, тож лічильник алокацій потоку не росте.
+     */
+    private void checkFrameAllocations(com.sun.management.ThreadMXBean allocs, long threadId) {
+        // Власна ціна пари вимірів (на Java 8 getThreadAllocatedBytes сам створює масив)
+        long probe = allocs.getThreadAllocatedBytes(threadId);
+        long overhead = allocs.getThreadAllocatedBytes(threadId) - probe;
+
+        long allocated = 0L;
+        int  frames = 0, enemyFrames = 0;
+        for (int tick = 0; tick < FRAME_CHECK; tick++) {
+            if (replay == null) script.apply(tick, input);
+            simulation.step(Simulation.STEP);
+            input.endTick();
+            if (replay == null && !simulation.getPlayer().isAlive()) loadLevel();
+
+            List<BaseEnemy> enemies = simulation.getWorld().getEnemies();
+            long before = allocs.getThreadAllocatedBytes(threadId);
+            TextureRegion frame = simulation.getPlayer().getCurrentFrame();
+            for (int i = 0; i < enemies.size(); i++) {
+                if (enemies.get(i).getCurrentFrame() != null) enemyFrames++;
+            }
+            allocated += Math.max(0L, allocs.getThreadAllocatedBytes(threadId) - before - overhead);
+            if (frame != null) frames++;
+        }
+
+        System.out.println("frame alloc: " + allocated + " B over " + frames + " player and "
+            + enemyFrames + " enemy frames");
+        if (allocated > 0L) {
+            throw new IllegalStateException("getCurrentFrame allocated " + allocated + " B in " + FRAME_CHECK + " frames");
+        }
+    }
+
+    /** Рівні, що стоять у записі перед наступним кроком; true — якщо були */
+    private boolean loadReplayLevels() {
+        boolean loaded = false;
+        String path;
+        while ((path = replay.nextLevelLoad()) != null) {
+            if (!assets.isLoaded(path, TiledMap.class)) {
+                assets.load(path, TiledMap.class);
+                assets.finishLoadingAsset(path);
+            }
+            mapPath = path;
+            loadLevel();
+            loaded = true;
+        }
+        return loaded;
+    }
+
+    private void loadLevel() {
+        if (level != null) {
+            simulation.getWorld().getProjectiles().clear();
+            simulation.getPlayer().dispose();
+            // Карта належить AssetManager — не звільняємо її з рівнем
+        }
+        World world = new World(replay != null ? replay.getSeed() : 0L);
+        level = new TiledLevel(assets, null, mapPath);
+        level.createLevel(world);
+
+        Player player = new Player(level.getStartX(), level.getStartY(), input);
+        player.setWorldBounds(level.getMapPixelWidth(), level.getMapPixelHeight());
+        player.setProjectileSystem(world.getProjectiles());
+        world.setWorldWidth(level.getMapPixelWidth());
+        simulation = new Simulation(world, player, level.getMapPixelWidth(), level.getMapPixelHeight());
+        simulation.setChunks(level.getChunks());
+    }
+
+    private void report(long[] times, long allocated, boolean hasAllocs, int restarts) {
+        int ticks = times.length;
+        long total = 0L;
+        for (long t : times) total += t;
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        double seconds = total / 1e9;
+
+        System.out.println("map:         " + mapPath);
+        System.out.println("ticks:       " + ticks + " (warmup " + warmup + ", restarts " + restarts + ")");
+        System.out.println(String.format(Locale.ROOT, "ticks/s:     %.0f", ticks / seconds));
+        System.out.println(String.format(Locale.ROOT, "tick p50:    %.2f us", percentile(sorted, 0.50) / 1e3));
+        System.out.println(String.format(Locale.ROOT, "tick p99:    %.2f us", percentile(sorted, 0.99) / 1e3));
+        System.out.println(String.format(Locale.ROOT, "tick max:    %.2f us", sorted[sorted.length - 1] / 1e3));
+        if (hasAllocs) {
+            System.out.println(String.format(Locale.ROOT, "alloc/tick:  %.1f B", (double) allocated / ticks));
+            System.out.println(String.format(Locale.ROOT, "alloc rate:  %.2f MB/s", allocated / seconds / (1024.0 * 1024.0)));
+        } else {
+            System.out.println("alloc rate:  n/a (JVM has no per-thread allocation counter)");
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int i = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[MathUtils.clamp(i, 0, sorted.length - 1)];
+    }
+
+    @Override
+    public void dispose() {
+        if (simulation != null) simulation.getPlayer().dispose();
+        EnemyAnimationRegistry.dispose();
+        GameAtlas.dispose();
+        if (assets != null) assets.dispose();
+        simulation = null;
+        assets     = null;
+    }
+}
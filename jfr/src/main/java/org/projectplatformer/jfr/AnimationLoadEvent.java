@@ -0,0 +1,22 @@
+package org.projectplatformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.projectplatformer.AnimationLoad")
+@Label("Animation Load")
+@Category({"Shopo Palo", "Loading"})
+@Description("Кадри анімації гравця чи ворога: з атласу або окремими PNG-текстурами")
+class AnimationLoadEvent extends jdk.jfr.Event {
+    @Label("Path")
+    String path;
+
+    @Label("Frames")
+    int frames;
+
+    @Label("From Atlas")
+    boolean fromAtlas;
+}
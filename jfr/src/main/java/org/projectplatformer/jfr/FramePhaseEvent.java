@@ -0,0 +1,17 @@
+package org.projectplatformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.projectplatformer.FramePhase")
+@Label("Frame Phase")
+@Category({"Shopo Palo", "Frame"})
+@Description("Одна фаза кадру Main.render (ввід, симуляція, рендер, UI)")
+@StackTrace(false)
+class FramePhaseEvent extends jdk.jfr.Event {
+    @Label("Phase")
+    String phase;
+}
@@ -0,0 +1,74 @@
+package org.projectplatformer.jfr;
+
+import jdk.jfr.FlightRecorder;
+import org.projectplatformer.profiling.GameEvents;
+
+/** Реалізація {@link GameEvents.Sink} на JFR; створюється рефлексією з GameEvents */
+public class JfrEventSink implements GameEvents.Sink {
+
+    public JfrEventSink() {
+        if (!FlightRecorder.isAvailable()) throw new IllegalStateException("JFR is not available");
+    }
+
+    @Override
+    public Object begin(GameEvents.Type type) {
+        jdk.jfr.Event e;
+        switch (type) {
+            case FRAME_PHASE:    e = new FramePhaseEvent();    break;
+            case LEVEL_LOAD:     e = new LevelLoadEvent();     break;
+            case ANIMATION_LOAD: e = new AnimationLoadEvent(); break;
+            case SAVE_WRITE:     e = new SaveEvent(false);     break;
+            default:             e = new SaveEvent(true);      break;
+        }
+        // Вимкнена в налаштуваннях запису подія — не міряємо взагалі
+        if (!e.isEnabled()) return null;
+        e.begin();
+        return e;
+    }
+
+    @Override
+    public void framePhase(Object span, String phase) {
+        FramePhaseEvent e = (FramePhaseEvent) span;
+        e.end();
+        if (e.shouldCommit()) {
+            e.phase = phase;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void levelLoad(Object span, String map, int platforms, int coins, int enemies) {
+        LevelLoadEvent e = (LevelLoadEvent) span;
+        e.end();
+        if (e.shouldCommit()) {
+            e.map       = map;
+            e.platforms = platforms;
+            e.coins     = coins;
+            e.enemies   = enemies;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void animationLoad(Object span, String path, int frames, boolean fromAtlas) {
+        AnimationLoadEvent e = (AnimationLoadEvent) span;
+        e.end();
+        if (e.shouldCommit()) {
+            e.path      = path;
+            e.frames    = frames;
+            e.fromAtlas = fromAtlas;
+            e.commit();
+        }
+    }
+
+    @Override
+    public void save(Object span, String file, long bytes) {
+        SaveEvent e = (SaveEvent) span;
+        e.end();
+        if (e.shouldCommit()) {
+            e.file  = file;
+            e.bytes = bytes;
+            e.commit();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.projectplatformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.projectplatformer.LevelLoad")
+@Label("Level Load")
+@Category({"Shopo Palo", "Loading"})
+@Description("TiledLevel.createLevel: побудова світу з TMX-карти")
+@StackTrace(false)
+class LevelLoadEvent extends jdk.jfr.Event {
+    @Label("Map")
+    String map;
+
+    @Label("Platforms")
+    int platforms;
+
+    @Label("Coins")
+    int coins;
+
+    @Label("Enemies")
+    int enemies;
+}
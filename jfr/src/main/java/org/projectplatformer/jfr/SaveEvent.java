@@ -0,0 +1,28 @@
+package org.projectplatformer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("org.projectplatformer.Save")
+@Label("Save File")
+@Category({"Shopo Palo", "IO"})
+@Description("SaveManager.save / SaveManager.load")
+class SaveEvent extends jdk.jfr.Event {
+    @Label("Load")
+    @Description("true — читання сейву, false — запис")
+    final boolean load;
+
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    SaveEvent(boolean load) {
+        this.load = load;
+    }
+}